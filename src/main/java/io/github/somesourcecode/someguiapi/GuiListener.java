@@ -50,7 +50,7 @@ public class GuiListener implements Listener {
 		}
 		event.setCancelled(true);
 
-		final GuiArea area = event.getClickedInventory() == null ? GuiArea.OUTSIDE : event.getClickedInventory().equals(gui.getInventory()) ? GuiArea.TOP : GuiArea.BOTTOM;
+		final GuiArea area = event.getClickedInventory() == null ? GuiArea.OUTSIDE : event.getClickedInventory().equals(event.getInventory()) ? GuiArea.TOP : GuiArea.BOTTOM;
 		final GuiClickContext guiClickContext = new GuiClickContext(gui, gui.getScene(), area, event.getClick(), event.getHotbarButton(), event.getWhoClicked());
 
 		gui.fireOnClick(guiClickContext);
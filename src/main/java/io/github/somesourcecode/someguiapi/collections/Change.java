@@ -22,7 +22,6 @@
  */
 
 package io.github.somesourcecode.someguiapi.collections;
-
 import java.util.Collections;
 import java.util.List;
 
@@ -30,6 +29,26 @@ import java.util.List;
  * Represents a change in a list. It contains a list of elements that were added and
  * a list of elements that were removed. If no elements were added or removed, the
  * corresponding lists will be empty.
+ * <p>
+ * Changes fired by an {@link ObservableListBase} additionally describe where the list
+ * changed. A change consists of one or more steps, which can be iterated using {@link #next()}:
+ * <pre>{@code
+ * list.addListener(change -> {
+ *     while (change.next()) {
+ *         if (change.wasPermutated()) {
+ *             for (int i = change.getFrom(); i < change.getTo(); i++) {
+ *                 // element at i moved to change.getPermutation(i)
+ *             }
+ *         } else {
+ *             // change.getRemoved() were removed at change.getFrom()
+ *             // change.getAdded() now occupy change.getFrom() to change.getTo()
+ *         }
+ *     }
+ * });
+ * }</pre>
+ * The steps are reported in the order they were applied. The indices of a step refer
+ * to the list as it was after all previous steps had been applied, so replaying them
+ * in order reproduces the change exactly.
  *
  * @param <E> the type of elements in the list
  * @since 1.0.0
@@ -42,24 +61,38 @@ public class Change<E> {
 	private final boolean wasAdded;
 	private final boolean wasRemoved;
 
+	private final ObservableList<E> list;
+	private final List<Step<E>> steps;
+	private int cursor = -1;
+
 	/**
 	 * Constructs a new change with the specified added and removed sublists.
+	 * The change does not contain any steps.
 	 *
 	 * @param addedSubList the added sublist
 	 * @param removedSubList the removed sublist
 	 * @since 1.0.0
 	 */
 	public Change(List<? extends E> addedSubList, List<? extends E> removedSubList) {
+		this(null, Collections.emptyList(), addedSubList, removedSubList);
+	}
+
+	Change(ObservableList<E> list, List<Step<E>> steps, List<? extends E> addedSubList, List<? extends E> removedSubList) {
 		this.wasAdded = addedSubList != null && !addedSubList.isEmpty();
 		this.wasRemoved = removedSubList != null && !removedSubList.isEmpty();
 
 		this.addedSubList = wasAdded ? Collections.unmodifiableList(addedSubList) : Collections.emptyList();
 		this.removedSubList = wasRemoved ? Collections.unmodifiableList(removedSubList) : Collections.emptyList();
+
+		this.list = list;
+		this.steps = steps;
 	}
 
 	/**
 	 * Returns the list of elements that were added.
 	 * If no elements were added, the list will be empty.
+	 * <p>
+	 * This list covers the whole change, regardless of the current step.
 	 *
 	 * @return the list of elements that were added
 	 * @since 1.0.0
@@ -71,6 +104,8 @@ public class Change<E> {
 	/**
 	 * Returns the list of elements that were removed.
 	 * If no elements were removed, the list will be empty.
+	 * <p>
+	 * This list covers the whole change, regardless of the current step.
 	 *
 	 * @return the list of elements that were removed
 	 * @since 1.0.0
@@ -99,4 +134,220 @@ public class Change<E> {
 		return wasRemoved;
 	}
 
+	/**
+	 * Returns the list that was changed.
+	 *
+	 * @return the list, or null if this change does not have any steps
+	 * @since 2.2.0
+	 */
+	public ObservableList<E> getList() {
+		return list;
+	}
+
+	/**
+	 * Moves to the next step of this change.
+	 * This method has to be called before any of the step methods are used.
+	 *
+	 * @return true if there is another step
+	 * @since 2.2.0
+	 */
+	public boolean next() {
+		if (cursor + 1 >= steps.size()) {
+			cursor = steps.size();
+			return false;
+		}
+		cursor++;
+		return true;
+	}
+
+	/**
+	 * Resets the cursor to the start of this change,
+	 * so the steps can be iterated again.
+	 *
+	 * @since 2.2.0
+	 */
+	public void reset() {
+		cursor = -1;
+	}
+
+	/**
+	 * Returns the index of the first element affected by the current step.
+	 *
+	 * @return the start index (inclusive)
+	 * @throws IllegalStateException if the cursor is not on a step
+	 * @since 2.2.0
+	 */
+	public int getFrom() {
+		return currentStep().from;
+	}
+
+	/**
+	 * Returns the end of the range affected by the current step. For additions and
+	 * replacements, this is the end of the added elements; for permutations, the end of
+	 * the permutated range. For pure removals, this is equal to {@link #getFrom()}.
+	 *
+	 * @return the end index (exclusive)
+	 * @throws IllegalStateException if the cursor is not on a step
+	 * @since 2.2.0
+	 */
+	public int getTo() {
+		return currentStep().to;
+	}
+
+	/**
+	 * Returns the elements that were added in the current step.
+	 *
+	 * @return the added elements, never null
+	 * @throws IllegalStateException if the cursor is not on a step
+	 * @since 2.2.0
+	 */
+	public List<E> getAdded() {
+		return currentStep().added;
+	}
+
+	/**
+	 * Returns the elements that were removed in the current step.
+	 *
+	 * @return the removed elements, never null
+	 * @throws IllegalStateException if the cursor is not on a step
+	 * @since 2.2.0
+	 */
+	public List<E> getRemoved() {
+		return currentStep().removed;
+	}
+
+	/**
+	 * Returns the number of elements added in the current step.
+	 *
+	 * @return the number of added elements
+	 * @throws IllegalStateException if the cursor is not on a step
+	 * @since 2.2.0
+	 */
+	public int getAddedSize() {
+		return currentStep().added.size();
+	}
+
+	/**
+	 * Returns the number of elements removed in the current step.
+	 *
+	 * @return the number of removed elements
+	 * @throws IllegalStateException if the cursor is not on a step
+	 * @since 2.2.0
+	 */
+	public int getRemovedSize() {
+		return currentStep().removed.size();
+	}
+
+	/**
+	 * Returns whether the current step replaced elements, i.e.
+	 * removed elements and added others at the same position.
+	 *
+	 * @return whether the current step is a replacement
+	 * @throws IllegalStateException if the cursor is not on a step
+	 * @since 2.2.0
+	 */
+	public boolean wasReplaced() {
+		final Step<E> step = currentStep();
+		return !step.added.isEmpty() && !step.removed.isEmpty();
+	}
+
+	/**
+	 * Returns whether the current step only changed the order of the elements.
+	 *
+	 * @return whether the current step is a permutation
+	 * @throws IllegalStateException if the cursor is not on a step
+	 * @since 2.2.0
+	 */
+	public boolean wasPermutated() {
+		return currentStep().permutation != null;
+	}
+
+	/**
+	 * Returns the new index of the element that was at the specified index
+	 * before the current permutation step.
+	 *
+	 * @param index the old index, between {@link #getFrom()} and {@link #getTo()}
+	 * @return the new index
+	 * @throws IllegalStateException if the cursor is not on a permutation step
+	 * @throws IndexOutOfBoundsException if the index is outside the permutated range
+	 * @since 2.2.0
+	 */
+	public int getPermutation(int index) {
+		final Step<E> step = currentStep();
+		if (step.permutation == null) {
+			throw new IllegalStateException("Current step is not a permutation");
+		}
+		if (index < step.from || index >= step.to) {
+			throw new IndexOutOfBoundsException("Index " + index + " is outside of " + step.from + " to " + step.to);
+		}
+		return step.permutation[index - step.from];
+	}
+
+	private Step<E> currentStep() {
+		if (cursor < 0 || cursor >= steps.size()) {
+			throw new IllegalStateException("Cursor is not on a step, call next() first");
+		}
+		return steps.get(cursor);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder("Change[");
+		for (int i = 0; i < steps.size(); i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			builder.append(steps.get(i));
+		}
+		return builder.append("]").toString();
+	}
+
+	/**
+	 * A single step of a change.
+	 *
+	 * @param <E> the type of elements in the list
+	 */
+	static final class Step<E> {
+
+		private final int from;
+		private final int to;
+		private final List<E> added;
+		private final List<E> removed;
+		private final int[] permutation;
+
+		private Step(int from, int to, List<E> added, List<E> removed, int[] permutation) {
+			this.from = from;
+			this.to = to;
+			this.added = added;
+			this.removed = removed;
+			this.permutation = permutation;
+		}
+
+		List<E> getAddedElements() {
+			return added;
+		}
+
+		List<E> getRemovedElements() {
+			return removed;
+		}
+
+		static <E> Step<E> replace(int from, List<E> added, List<E> removed) {
+			return new Step<>(from, from + added.size(),
+					Collections.unmodifiableList(added), Collections.unmodifiableList(removed), null);
+		}
+
+		static <E> Step<E> permutate(int from, int[] permutation) {
+			return new Step<>(from, from + permutation.length, Collections.emptyList(), Collections.emptyList(), permutation);
+		}
+
+		@Override
+		public String toString() {
+			if (permutation != null) {
+				return "permutated " + from + ".." + to;
+			}
+			return "at " + from + " removed " + removed + " added " + added;
+		}
+
+	}
+
 }
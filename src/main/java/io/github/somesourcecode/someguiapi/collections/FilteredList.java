@@ -0,0 +1,279 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A view of an {@link ObservableList} that only contains the elements matching a predicate.
+ * <p>
+ * The view keeps the indices of the matching source elements and updates them
+ * incrementally: a change of the source only tests the added elements against the
+ * predicate, and the fired change only covers the affected range of this view.
+ * Changing the predicate fires the minimal set of removals and additions.
+ * <p>
+ * The predicate is only evaluated when elements are added to the source or the predicate
+ * is changed. If an element changes in a way that affects the predicate, it has to be
+ * replaced in the source (e.g. using {@code set}) or the predicate has to be set again.
+ *
+ * @param <E> the type of elements in the list
+ * @since 2.2.0
+ */
+public class FilteredList<E> extends TransformationList<E> {
+
+	private Predicate<? super E> predicate;
+
+	private int[] filtered = new int[8];
+	private int size;
+
+	/**
+	 * Constructs a new filtered list that contains all elements of the source.
+	 *
+	 * @param source the source list
+	 * @since 2.2.0
+	 */
+	public FilteredList(ObservableList<E> source) {
+		this(source, null);
+	}
+
+	/**
+	 * Constructs a new filtered list that contains the elements of the source matching the predicate.
+	 *
+	 * @param source the source list
+	 * @param predicate the predicate, or null to match all elements
+	 * @since 2.2.0
+	 */
+	public FilteredList(ObservableList<E> source, Predicate<? super E> predicate) {
+		super(source);
+		this.predicate = predicate;
+		refilter();
+	}
+
+	/**
+	 * Returns the predicate of this list.
+	 *
+	 * @return the predicate, or null if all elements match
+	 * @since 2.2.0
+	 */
+	public Predicate<? super E> getPredicate() {
+		return predicate;
+	}
+
+	/**
+	 * Sets the predicate of this list. Only the elements whose match
+	 * changed are reported as removed or added.
+	 *
+	 * @param predicate the predicate, or null to match all elements
+	 * @since 2.2.0
+	 */
+	public void setPredicate(Predicate<? super E> predicate) {
+		this.predicate = predicate;
+
+		final int[] oldFiltered = filtered;
+		final int oldSize = size;
+		refilter();
+
+		final ObservableList<E> source = getSource();
+		beginChange();
+		try {
+			int position = 0;
+			int runStart = 0;
+			List<E> removed = new ArrayList<>();
+			List<E> added = new ArrayList<>();
+			int oldIndex = 0;
+			int newIndex = 0;
+			for (int i = 0; i < source.size(); i++) {
+				final boolean wasMatch = oldIndex < oldSize && oldFiltered[oldIndex] == i;
+				final boolean isMatch = newIndex < size && filtered[newIndex] == i;
+				if (wasMatch) {
+					oldIndex++;
+				}
+				if (isMatch) {
+					newIndex++;
+				}
+				if (wasMatch && isMatch) {
+					if (!removed.isEmpty() || !added.isEmpty()) {
+						nextReplace(runStart, added, removed);
+						position = runStart + added.size();
+						removed = new ArrayList<>();
+						added = new ArrayList<>();
+					}
+					position++;
+					runStart = position;
+				} else if (wasMatch) {
+					removed.add(source.get(i));
+				} else if (isMatch) {
+					added.add(source.get(i));
+				}
+			}
+			nextReplace(runStart, added, removed);
+		} finally {
+			endChange();
+		}
+	}
+
+	@Override
+	public E get(int index) {
+		return getSource().get(getSourceIndex(index));
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int getSourceIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		return filtered[index];
+	}
+
+	@Override
+	protected void onSourceChanged(Change<? extends E> change) {
+		beginChange();
+		try {
+			while (change.next()) {
+				if (change.wasPermutated()) {
+					permutate(change);
+				} else {
+					update(change);
+				}
+			}
+		} finally {
+			endChange();
+		}
+	}
+
+	private void update(Change<? extends E> change) {
+		final int from = change.getFrom();
+		final int removedSize = change.getRemovedSize();
+		final List<? extends E> addedElements = change.getAdded();
+		final int delta = addedElements.size() - removedSize;
+
+		final int start = lowerBound(from);
+		final int end = lowerBound(from + removedSize);
+
+		final List<E> removed = new ArrayList<>(end - start);
+		for (int i = start; i < end; i++) {
+			removed.add(change.getRemoved().get(filtered[i] - from));
+		}
+
+		final List<E> added = new ArrayList<>();
+		int[] addedIndices = new int[0];
+		for (int i = 0; i < addedElements.size(); i++) {
+			final E element = addedElements.get(i);
+			if (matches(element)) {
+				if (added.size() == addedIndices.length) {
+					addedIndices = Arrays.copyOf(addedIndices, Math.max(4, addedIndices.length * 2));
+				}
+				addedIndices[added.size()] = from + i;
+				added.add(element);
+			}
+		}
+
+		final int newSize = size - (end - start) + added.size();
+		ensureCapacity(newSize);
+		System.arraycopy(filtered, end, filtered, start + added.size(), size - end);
+		System.arraycopy(addedIndices, 0, filtered, start, added.size());
+		size = newSize;
+		if (delta != 0) {
+			for (int i = start + added.size(); i < size; i++) {
+				filtered[i] += delta;
+			}
+		}
+
+		nextReplace(start, added, removed);
+	}
+
+	private void permutate(Change<? extends E> change) {
+		final int start = lowerBound(change.getFrom());
+		final int end = lowerBound(change.getTo());
+		if (end - start < 2) {
+			if (start < end) {
+				filtered[start] = change.getPermutation(filtered[start]);
+			}
+			return;
+		}
+
+		final Integer[] order = new Integer[end - start];
+		final int[] newSourceIndices = new int[end - start];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+			newSourceIndices[i] = change.getPermutation(filtered[start + i]);
+		}
+		Arrays.sort(order, (a, b) -> Integer.compare(newSourceIndices[a], newSourceIndices[b]));
+
+		final int[] permutation = new int[order.length];
+		boolean changed = false;
+		for (int i = 0; i < order.length; i++) {
+			filtered[start + i] = newSourceIndices[order[i]];
+			permutation[order[i]] = start + i;
+			changed |= order[i] != i;
+		}
+		if (changed) {
+			nextPermutation(start, permutation);
+		}
+	}
+
+	private void refilter() {
+		final ObservableList<E> source = getSource();
+		filtered = new int[Math.max(8, source.size())];
+		size = 0;
+		for (int i = 0; i < source.size(); i++) {
+			if (matches(source.get(i))) {
+				filtered[size++] = i;
+			}
+		}
+	}
+
+	private boolean matches(E element) {
+		return predicate == null || predicate.test(element);
+	}
+
+	private int lowerBound(int sourceIndex) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (filtered[mid] < sourceIndex) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > filtered.length) {
+			filtered = Arrays.copyOf(filtered, Math.max(capacity, filtered.length + (filtered.length >> 1)));
+		}
+	}
+
+}
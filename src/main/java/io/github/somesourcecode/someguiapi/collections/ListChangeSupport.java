@@ -0,0 +1,137 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.collections;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Manages the listeners of an {@link ObservableList} and aggregates
+ * the steps of a change transaction into a single {@link Change}.
+ *
+ * @param <E> the type of elements in the list
+ * @since 2.2.0
+ */
+final class ListChangeSupport<E> {
+
+	private final ObservableList<E> list;
+	private final ListenerList<ListChangeListener<? super E>> listeners = new ListenerList<>();
+
+	private int changeDepth;
+	private List<Change.Step<E>> pendingSteps;
+
+	ListChangeSupport(ObservableList<E> list) {
+		this.list = list;
+	}
+
+	void addListener(ListChangeListener<? super E> listener) {
+		listeners.add(listener);
+	}
+
+	void removeListener(ListChangeListener<? super E> listener) {
+		listeners.remove(listener);
+	}
+
+	void beginChange() {
+		if (changeDepth++ == 0) {
+			pendingSteps = new ArrayList<>();
+		}
+	}
+
+	void endChange() {
+		if (changeDepth == 0) {
+			throw new IllegalStateException("endChange() called without matching beginChange()");
+		}
+		if (--changeDepth > 0) {
+			return;
+		}
+		final List<Change.Step<E>> steps = pendingSteps;
+		pendingSteps = null;
+		if (!steps.isEmpty() && !listeners.isEmpty()) {
+			final List<E> added = new ArrayList<>();
+			final List<E> removed = new ArrayList<>();
+			computeNetChange(steps, added, removed);
+			final Change<E> change = new Change<>(list, steps, added, removed);
+			for (ListChangeListener<? super E> listener : listeners.snapshot()) {
+				change.reset();
+				listener.onChanged(change);
+			}
+		}
+	}
+
+	void fireStep(Change.Step<E> step) {
+		beginChange();
+		try {
+			pendingSteps.add(step);
+		} finally {
+			endChange();
+		}
+	}
+
+	/**
+	 * Computes the elements that were added and removed by all steps together.
+	 * An element that is removed and added again, or added and removed again, cancels out.
+	 * Elements are compared by identity, and each element is counted once per occurrence.
+	 */
+	private static <E> void computeNetChange(List<Change.Step<E>> steps, List<E> added, List<E> removed) {
+		if (steps.size() == 1) {
+			added.addAll(steps.get(0).getAddedElements());
+			removed.addAll(steps.get(0).getRemovedElements());
+			return;
+		}
+
+		final Map<E, int[]> counts = new IdentityHashMap<>();
+		final List<E> elements = new ArrayList<>();
+		for (Change.Step<E> step : steps) {
+			for (E element : step.getRemovedElements()) {
+				count(counts, elements, element)[0]--;
+			}
+			for (E element : step.getAddedElements()) {
+				count(counts, elements, element)[0]++;
+			}
+		}
+		for (E element : elements) {
+			final int count = counts.get(element)[0];
+			for (int i = 0; i < count; i++) {
+				added.add(element);
+			}
+			for (int i = 0; i > count; i--) {
+				removed.add(element);
+			}
+		}
+	}
+
+	private static <E> int[] count(Map<E, int[]> counts, List<E> elements, E element) {
+		int[] count = counts.get(element);
+		if (count == null) {
+			count = new int[1];
+			counts.put(element, count);
+			elements.add(element);
+		}
+		return count;
+	}
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.collections;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list of listeners that drops {@link WeakListener}s whose listener was garbage collected.
+ * <p>
+ * Collected listeners are purged whenever the number of listeners has doubled since the last purge,
+ * so adding listeners is amortized O(1). Firing a change iterates an immutable snapshot that is
+ * shared until the listeners change, and adding a listener never copies the published part of the array.
+ *
+ * @param <L> the type of the listeners
+ * @since 2.2.0
+ */
+final class ListenerList<L> {
+
+	private static final int MIN_PURGE_THRESHOLD = 16;
+
+	private Object[] listeners = new Object[0];
+	private int size;
+	private int purgeThreshold = MIN_PURGE_THRESHOLD;
+
+	private List<L> snapshot = List.of();
+	private boolean shared;
+
+	void add(L listener) {
+		if (listener == null) {
+			throw new IllegalArgumentException("Listener cannot be null");
+		}
+		if (size >= purgeThreshold) {
+			purge();
+			purgeThreshold = Math.max(MIN_PURGE_THRESHOLD, size * 2);
+		}
+		if (size == listeners.length) {
+			listeners = Arrays.copyOf(listeners, Math.max(4, size * 2));
+			shared = false;
+		}
+		// the slots beyond the size are not part of any snapshot, so they can be written to
+		listeners[size++] = listener;
+		snapshot = null;
+	}
+
+	void remove(L listener) {
+		for (int i = 0; i < size; i++) {
+			if (listeners[i].equals(listener)) {
+				ensureWritable();
+				System.arraycopy(listeners, i + 1, listeners, i, size - i - 1);
+				listeners[--size] = null;
+				snapshot = null;
+				return;
+			}
+		}
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns a snapshot of the listeners, so listeners can
+	 * be added or removed while the snapshot is iterated.
+	 * The snapshot is reused until the listeners change.
+	 */
+	List<L> snapshot() {
+		if (snapshot == null) {
+			snapshot = size == 0 ? List.of() : new Snapshot<>(listeners, size);
+			shared = size != 0;
+		}
+		return snapshot;
+	}
+
+	private void purge() {
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			if (!(listeners[i] instanceof WeakListener weakListener && weakListener.wasGarbageCollected())) {
+				if (kept != i) {
+					ensureWritable();
+					listeners[kept] = listeners[i];
+				}
+				kept++;
+			}
+		}
+		if (kept != size) {
+			Arrays.fill(listeners, kept, size, null);
+			size = kept;
+			snapshot = null;
+		}
+	}
+
+	private void ensureWritable() {
+		if (shared) {
+			listeners = listeners.clone();
+			shared = false;
+		}
+	}
+
+	private static final class Snapshot<L> extends AbstractList<L> implements RandomAccess {
+
+		private final Object[] listeners;
+		private final int size;
+
+		private Snapshot(Object[] listeners, int size) {
+			this.listeners = listeners;
+			this.size = size;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public L get(int index) {
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+			}
+			return (L) listeners[index];
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+	}
+
+}
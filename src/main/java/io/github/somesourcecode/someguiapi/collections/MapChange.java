@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.collections;
+
+/**
+ * Represents a change of a single entry of an {@link ObservableMap}.
+ * <p>
+ * If a value was replaced, the change is both an addition and a removal.
+ *
+ * @param <K> the type of keys in the map
+ * @param <V> the type of values in the map
+ * @since 2.2.0
+ */
+public class MapChange<K, V> {
+
+	private final ObservableMap<K, V> map;
+	private final K key;
+	private final V valueAdded;
+	private final V valueRemoved;
+	private final boolean wasAdded;
+	private final boolean wasRemoved;
+
+	/**
+	 * Constructs a new map change.
+	 *
+	 * @param map the map that changed
+	 * @param key the key of the changed entry
+	 * @param valueAdded the new value, if an entry was added or replaced
+	 * @param valueRemoved the old value, if an entry was removed or replaced
+	 * @param wasAdded whether a value was added
+	 * @param wasRemoved whether a value was removed
+	 * @since 2.2.0
+	 */
+	public MapChange(ObservableMap<K, V> map, K key, V valueAdded, V valueRemoved, boolean wasAdded, boolean wasRemoved) {
+		this.map = map;
+		this.key = key;
+		this.valueAdded = valueAdded;
+		this.valueRemoved = valueRemoved;
+		this.wasAdded = wasAdded;
+		this.wasRemoved = wasRemoved;
+	}
+
+	/**
+	 * Returns the map that changed.
+	 *
+	 * @return the map
+	 * @since 2.2.0
+	 */
+	public ObservableMap<K, V> getMap() {
+		return map;
+	}
+
+	/**
+	 * Returns the key of the changed entry.
+	 *
+	 * @return the key
+	 * @since 2.2.0
+	 */
+	public K getKey() {
+		return key;
+	}
+
+	/**
+	 * Returns the value that was added.
+	 *
+	 * @return the added value, or null if no value was added
+	 * @since 2.2.0
+	 */
+	public V getValueAdded() {
+		return valueAdded;
+	}
+
+	/**
+	 * Returns the value that was removed.
+	 *
+	 * @return the removed value, or null if no value was removed
+	 * @since 2.2.0
+	 */
+	public V getValueRemoved() {
+		return valueRemoved;
+	}
+
+	/**
+	 * Returns whether a value was added.
+	 *
+	 * @return whether a value was added
+	 * @since 2.2.0
+	 */
+	public boolean wasAdded() {
+		return wasAdded;
+	}
+
+	/**
+	 * Returns whether a value was removed.
+	 *
+	 * @return whether a value was removed
+	 * @since 2.2.0
+	 */
+	public boolean wasRemoved() {
+		return wasRemoved;
+	}
+
+}
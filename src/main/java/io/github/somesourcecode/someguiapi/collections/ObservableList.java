@@ -23,6 +23,7 @@
 
 package io.github.somesourcecode.someguiapi.collections;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -79,4 +80,44 @@ public interface ObservableList<E> extends List<E> {
 	 */
 	boolean retainAll(E... elements);
 
+	/**
+	 * Replaces all elements of the list with the specified elements.
+	 * Only a single change is fired for the whole replacement.
+	 *
+	 * @param elements the new elements
+	 * @return true if the list was changed as a result of this call
+	 * @since 2.2.0
+	 */
+	boolean setAll(Collection<? extends E> elements);
+
+	/**
+	 * A convenience method to replace all elements of the list with the varargs elements.
+	 *
+	 * @param elements the new elements
+	 * @return true if the list was changed as a result of this call
+	 * @since 2.2.0
+	 */
+	boolean setAll(E... elements);
+
+	/**
+	 * Begins a change transaction.
+	 * <p>
+	 * All changes made until the matching {@link #endChange()} are aggregated
+	 * into a single change that is fired when the transaction ends. Elements that
+	 * are added and removed again during the transaction are not reported at all.
+	 * Transactions can be nested, in which case the change is fired when the
+	 * outermost transaction ends.
+	 *
+	 * @since 2.2.0
+	 */
+	void beginChange();
+
+	/**
+	 * Ends a change transaction started by {@link #beginChange()}.
+	 *
+	 * @throws IllegalStateException if no transaction was started
+	 * @since 2.2.0
+	 */
+	void endChange();
+
 }
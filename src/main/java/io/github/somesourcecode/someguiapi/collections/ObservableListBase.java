@@ -39,7 +39,7 @@ import java.util.*;
 public class ObservableListBase<E> implements ObservableList<E> {
 
 	private final List<E> baseList;
-	private final List<ListChangeListener<? super E>> listeners = new ArrayList<>();
+	private final ListChangeSupport<E> changeSupport = new ListChangeSupport<>(this);
 
 	/**
 	 * Constructs a new observable list with the specified base list.
@@ -53,12 +53,12 @@ public class ObservableListBase<E> implements ObservableList<E> {
 
 	@Override
 	public void addListener(ListChangeListener<? super E> listener) {
-		listeners.add(listener);
+		changeSupport.addListener(listener);
 	}
 
 	@Override
 	public void removeListener(ListChangeListener<? super E> listener) {
-		listeners.remove(listener);
+		changeSupport.removeListener(listener);
 	}
 
 	@Override
@@ -93,19 +93,20 @@ public class ObservableListBase<E> implements ObservableList<E> {
 
 	@Override
 	public boolean add(E e) {
+		final int index = baseList.size();
 		baseList.add(e);
-		fireChange(new Change<>(Collections.singletonList(e), null));
+		fireChange(Change.Step.replace(index, Collections.singletonList(e), Collections.emptyList()));
 		return true;
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public boolean remove(Object o) {
-		boolean result = baseList.remove(o);
-		if (result) {
-			fireChange(new Change<>(null, Collections.singletonList((E) o)));
+		final int index = baseList.indexOf(o);
+		if (index < 0) {
+			return false;
 		}
-		return result;
+		remove(index);
+		return true;
 	}
 
 	@Override
@@ -120,18 +121,15 @@ public class ObservableListBase<E> implements ObservableList<E> {
 
 	@Override
 	public boolean addAll(@NotNull Collection<? extends E> c) {
-		boolean result = baseList.addAll(c);
-		if (result) {
-			fireChange(new Change<>(new ArrayList<>(c), null));
-		}
-		return result;
+		return addAll(baseList.size(), c);
 	}
 
 	@Override
 	public boolean addAll(int index, @NotNull Collection<? extends E> c) {
-		boolean result = baseList.addAll(index, c);
+		final List<E> added = new ArrayList<>(c);
+		boolean result = baseList.addAll(index, added);
 		if (result) {
-			fireChange(new Change<>(new ArrayList<>(c), null));
+			fireChange(Change.Step.replace(index, added, Collections.emptyList()));
 		}
 		return result;
 	}
@@ -143,20 +141,7 @@ public class ObservableListBase<E> implements ObservableList<E> {
 
 	@Override
 	public boolean removeAll(@NotNull Collection<?> c) {
-		List<E> originalList = new ArrayList<>(baseList);
-		boolean result = baseList.removeAll(c);
-
-		if (result) {
-			List<E> removedElements = new ArrayList<>();
-			for (E element : originalList) {
-				if (!baseList.contains(element)) {
-					removedElements.add(element);
-				}
-			}
-			Change<E> change = new Change<>(null, removedElements);
-			fireChange(change);
-		}
-		return result;
+		return removeMatching(c, false);
 	}
 
 	@Override
@@ -166,26 +151,87 @@ public class ObservableListBase<E> implements ObservableList<E> {
 
 	@Override
 	public boolean retainAll(@NotNull Collection<?> c) {
-		List<E> originalList = new ArrayList<>(baseList);
-		boolean result = baseList.retainAll(c);
+		return removeMatching(c, true);
+	}
 
-		if (result) {
-			List<E> removedElements = new ArrayList<>();
-			for (E element : originalList) {
-				if (!baseList.contains(element)) {
-					removedElements.add(element);
+	private boolean removeMatching(Collection<?> c, boolean complement) {
+		final Collection<?> lookup = toLookup(c);
+		final List<E> retained = new ArrayList<>(baseList.size());
+		final List<Change.Step<E>> steps = new ArrayList<>();
+		List<E> removedRun = null;
+		for (E element : baseList) {
+			if (lookup.contains(element) ^ complement) {
+				if (removedRun == null) {
+					removedRun = new ArrayList<>();
+				}
+				removedRun.add(element);
+			} else {
+				if (removedRun != null) {
+					steps.add(Change.Step.replace(retained.size(), Collections.emptyList(), removedRun));
+					removedRun = null;
 				}
+				retained.add(element);
 			}
-			Change<E> change = new Change<>(null, removedElements);
-			fireChange(change);
 		}
-		return result;
+		if (removedRun != null) {
+			steps.add(Change.Step.replace(retained.size(), Collections.emptyList(), removedRun));
+		}
+		if (steps.isEmpty()) {
+			return false;
+		}
+
+		baseList.clear();
+		baseList.addAll(retained);
+
+		beginChange();
+		try {
+			for (Change.Step<E> step : steps) {
+				fireChange(step);
+			}
+		} finally {
+			endChange();
+		}
+		return true;
 	}
 
 	@Override
 	public void clear() {
+		if (baseList.isEmpty()) {
+			return;
+		}
+		final List<E> removedElements = new ArrayList<>(baseList);
 		baseList.clear();
-		fireChange(new Change<>(null, new ArrayList<>(baseList)));
+		fireChange(Change.Step.replace(0, Collections.emptyList(), removedElements));
+	}
+
+	@Override
+	public boolean setAll(E... elements) {
+		return setAll(Arrays.asList(elements));
+	}
+
+	@Override
+	public boolean setAll(@NotNull Collection<? extends E> elements) {
+		if (baseList.isEmpty() && elements.isEmpty()) {
+			return false;
+		}
+		beginChange();
+		try {
+			clear();
+			addAll(elements);
+		} finally {
+			endChange();
+		}
+		return true;
+	}
+
+	@Override
+	public void beginChange() {
+		changeSupport.beginChange();
+	}
+
+	@Override
+	public void endChange() {
+		changeSupport.endChange();
 	}
 
 	@Override
@@ -197,7 +243,7 @@ public class ObservableListBase<E> implements ObservableList<E> {
 	public E set(int index, E element) {
 		E previousElement = baseList.set(index, element);
 		if (previousElement != element) {
-			fireChange(new Change<>(Collections.singletonList(element), Collections.singletonList(previousElement)));
+			fireChange(Change.Step.replace(index, Collections.singletonList(element), Collections.singletonList(previousElement)));
 		}
 		return previousElement;
 	}
@@ -205,16 +251,46 @@ public class ObservableListBase<E> implements ObservableList<E> {
 	@Override
 	public void add(int index, E element) {
 		baseList.add(index, element);
-		fireChange(new Change<>(Collections.singletonList(element), null));
+		fireChange(Change.Step.replace(index, Collections.singletonList(element), Collections.emptyList()));
 	}
 
 	@Override
 	public E remove(int index) {
 		E result = baseList.remove(index);
-		fireChange(new Change<>(null, Collections.singletonList(baseList.get(index))));
+		fireChange(Change.Step.replace(index, Collections.emptyList(), Collections.singletonList(result)));
 		return result;
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public void sort(Comparator<? super E> c) {
+		final int size = baseList.size();
+		if (size < 2) {
+			return;
+		}
+		final Object[] elements = baseList.toArray();
+		final Integer[] order = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			order[i] = i;
+		}
+		final Comparator<? super E> comparator = c != null ? c : (Comparator<? super E>) Comparator.naturalOrder();
+		Arrays.sort(order, (a, b) -> comparator.compare((E) elements[a], (E) elements[b]));
+
+		final int[] permutation = new int[size];
+		boolean changed = false;
+		for (int i = 0; i < size; i++) {
+			permutation[order[i]] = i;
+			changed |= order[i] != i;
+		}
+		if (!changed) {
+			return;
+		}
+		for (int i = 0; i < size; i++) {
+			baseList.set(i, (E) elements[order[i]]);
+		}
+		fireChange(Change.Step.permutate(0, permutation));
+	}
+
 	@Override
 	public int indexOf(Object o) {
 		return baseList.indexOf(o);
@@ -240,10 +316,16 @@ public class ObservableListBase<E> implements ObservableList<E> {
 		return baseList.subList(fromIndex, toIndex);
 	}
 
-	private void fireChange(Change<E> change) {
-		for (ListChangeListener<? super E> listener : listeners) {
-			listener.onChanged(change);
-		}
+	/**
+	 * Returns a collection with fast membership checks. Sets are returned as is,
+	 * other collections are copied into a {@link HashSet}.
+	 */
+	static Collection<?> toLookup(Collection<?> c) {
+		return c instanceof Set<?> ? c : new HashSet<>(c);
+	}
+
+	private void fireChange(Change.Step<E> step) {
+		changeSupport.fireStep(step);
 	}
 
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.collections;
+
+import java.util.Map;
+
+/**
+ * A map that can be observed for changes.
+ * <p>
+ * A change will be fired for every entry that is added, removed or
+ * replaced and can be listened to by adding a {@link MapChangeListener}.
+ *
+ * @param <K> the type of keys in the map
+ * @param <V> the type of values in the map
+ * @since 2.2.0
+ */
+public interface ObservableMap<K, V> extends Map<K, V> {
+
+	/**
+	 * Adds a listener that is called whenever the map changes.
+	 *
+	 * @param listener the listener
+	 * @since 2.2.0
+	 */
+	void addListener(MapChangeListener<? super K, ? super V> listener);
+
+	/**
+	 * Removes a listener.
+	 *
+	 * @param listener the listener
+	 * @since 2.2.0
+	 */
+	void removeListener(MapChangeListener<? super K, ? super V> listener);
+
+}
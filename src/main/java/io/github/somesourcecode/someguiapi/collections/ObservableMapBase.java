@@ -0,0 +1,186 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.collections;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * A base implementation of an {@link ObservableMap}.
+ * <p>
+ * This class works as a wrapper around any {@link Map} and fires a change
+ * whenever an entry is added, removed or replaced. The key, value and entry
+ * views are unmodifiable, so all modifications go through this map.
+ *
+ * @param <K> the type of keys in the map
+ * @param <V> the type of values in the map
+ * @since 2.2.0
+ */
+public class ObservableMapBase<K, V> implements ObservableMap<K, V> {
+
+	private final Map<K, V> baseMap;
+	private final ListenerList<MapChangeListener<? super K, ? super V>> listeners = new ListenerList<>();
+
+	/**
+	 * Constructs a new observable map with the specified base map.
+	 *
+	 * @param baseMap the base map
+	 * @since 2.2.0
+	 */
+	public ObservableMapBase(Map<K, V> baseMap) {
+		if (baseMap == null) {
+			throw new IllegalArgumentException("Base map cannot be null");
+		}
+		this.baseMap = baseMap;
+	}
+
+	@Override
+	public void addListener(MapChangeListener<? super K, ? super V> listener) {
+		listeners.add(listener);
+	}
+
+	@Override
+	public void removeListener(MapChangeListener<? super K, ? super V> listener) {
+		listeners.remove(listener);
+	}
+
+	@Override
+	public int size() {
+		return baseMap.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return baseMap.isEmpty();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return baseMap.containsKey(key);
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		return baseMap.containsValue(value);
+	}
+
+	@Override
+	public V get(Object key) {
+		return baseMap.get(key);
+	}
+
+	@Override
+	public V put(K key, V value) {
+		final boolean existed = baseMap.containsKey(key);
+		final V previous = baseMap.put(key, value);
+		if (!existed || previous != value) {
+			fireChange(key, value, previous, true, existed);
+		}
+		return previous;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		if (!baseMap.containsKey(key)) {
+			return null;
+		}
+		final V previous = baseMap.remove(key);
+		fireChange((K) key, null, previous, false, true);
+		return previous;
+	}
+
+	@Override
+	public void putAll(@NotNull Map<? extends K, ? extends V> m) {
+		for (Entry<? extends K, ? extends V> entry : m.entrySet()) {
+			put(entry.getKey(), entry.getValue());
+		}
+	}
+
+	@Override
+	public void clear() {
+		if (listeners.isEmpty()) {
+			baseMap.clear();
+			return;
+		}
+		for (Object key : baseMap.keySet().toArray()) {
+			remove(key);
+		}
+	}
+
+	@Override
+	public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+		for (Object key : baseMap.keySet().toArray()) {
+			@SuppressWarnings("unchecked")
+			final K typedKey = (K) key;
+			put(typedKey, function.apply(typedKey, baseMap.get(typedKey)));
+		}
+	}
+
+	@Override
+	public @NotNull Set<K> keySet() {
+		return Collections.unmodifiableSet(baseMap.keySet());
+	}
+
+	@Override
+	public @NotNull Collection<V> values() {
+		return Collections.unmodifiableCollection(baseMap.values());
+	}
+
+	@Override
+	public @NotNull Set<Entry<K, V>> entrySet() {
+		return Collections.unmodifiableMap(baseMap).entrySet();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return o == this || baseMap.equals(o);
+	}
+
+	@Override
+	public int hashCode() {
+		return baseMap.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return baseMap.toString();
+	}
+
+	private void fireChange(K key, V valueAdded, V valueRemoved, boolean wasAdded, boolean wasRemoved) {
+		if (listeners.isEmpty()) {
+			return;
+		}
+		final MapChange<K, V> change = new MapChange<>(this, key, valueAdded, valueRemoved, wasAdded, wasRemoved);
+		for (MapChangeListener<? super K, ? super V> listener : listeners.snapshot()) {
+			listener.onChanged(change);
+		}
+	}
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.collections;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * A base implementation of an {@link ObservableSet}.
+ * <p>
+ * This class works as a wrapper around any {@link Set} and fires a change
+ * whenever an element is added or removed, including removals through the iterator.
+ *
+ * @param <E> the type of elements in the set
+ * @since 2.2.0
+ */
+public class ObservableSetBase<E> extends AbstractSet<E> implements ObservableSet<E> {
+
+	private final Set<E> baseSet;
+	private final ListenerList<SetChangeListener<? super E>> listeners = new ListenerList<>();
+
+	/**
+	 * Constructs a new observable set with the specified base set.
+	 *
+	 * @param baseSet the base set
+	 * @since 2.2.0
+	 */
+	public ObservableSetBase(Set<E> baseSet) {
+		if (baseSet == null) {
+			throw new IllegalArgumentException("Base set cannot be null");
+		}
+		this.baseSet = baseSet;
+	}
+
+	@Override
+	public void addListener(SetChangeListener<? super E> listener) {
+		listeners.add(listener);
+	}
+
+	@Override
+	public void removeListener(SetChangeListener<? super E> listener) {
+		listeners.remove(listener);
+	}
+
+	@Override
+	public int size() {
+		return baseSet.size();
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return baseSet.contains(o);
+	}
+
+	@Override
+	public boolean add(E e) {
+		if (!baseSet.add(e)) {
+			return false;
+		}
+		fireChange(e, true);
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean remove(Object o) {
+		if (!baseSet.remove(o)) {
+			return false;
+		}
+		fireChange((E) o, false);
+		return true;
+	}
+
+	@Override
+	public @NotNull Iterator<E> iterator() {
+		final Iterator<E> iterator = baseSet.iterator();
+		return new Iterator<>() {
+			private E current;
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public E next() {
+				current = iterator.next();
+				return current;
+			}
+
+			@Override
+			public void remove() {
+				iterator.remove();
+				fireChange(current, false);
+			}
+		};
+	}
+
+	private void fireChange(E element, boolean wasAdded) {
+		if (listeners.isEmpty()) {
+			return;
+		}
+		final SetChange<E> change = new SetChange<>(this, element, wasAdded);
+		for (SetChangeListener<? super E> listener : listeners.snapshot()) {
+			listener.onChanged(change);
+		}
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.collections;
+
+/**
+ * Represents a change of a single element of an {@link ObservableSet}.
+ *
+ * @param <E> the type of elements in the set
+ * @since 2.2.0
+ */
+public class SetChange<E> {
+
+	private final ObservableSet<E> set;
+	private final E elementAdded;
+	private final E elementRemoved;
+	private final boolean wasAdded;
+
+	/**
+	 * Constructs a new set change.
+	 *
+	 * @param set the set that changed
+	 * @param element the added or removed element
+	 * @param wasAdded whether the element was added, otherwise it was removed
+	 * @since 2.2.0
+	 */
+	public SetChange(ObservableSet<E> set, E element, boolean wasAdded) {
+		this.set = set;
+		this.elementAdded = wasAdded ? element : null;
+		this.elementRemoved = wasAdded ? null : element;
+		this.wasAdded = wasAdded;
+	}
+
+	/**
+	 * Returns the set that changed.
+	 *
+	 * @return the set
+	 * @since 2.2.0
+	 */
+	public ObservableSet<E> getSet() {
+		return set;
+	}
+
+	/**
+	 * Returns the element that was added.
+	 *
+	 * @return the added element, or null if an element was removed
+	 * @since 2.2.0
+	 */
+	public E getElementAdded() {
+		return elementAdded;
+	}
+
+	/**
+	 * Returns the element that was removed.
+	 *
+	 * @return the removed element, or null if an element was added
+	 * @since 2.2.0
+	 */
+	public E getElementRemoved() {
+		return elementRemoved;
+	}
+
+	/**
+	 * Returns whether an element was added.
+	 *
+	 * @return whether an element was added
+	 * @since 2.2.0
+	 */
+	public boolean wasAdded() {
+		return wasAdded;
+	}
+
+	/**
+	 * Returns whether an element was removed.
+	 *
+	 * @return whether an element was removed
+	 * @since 2.2.0
+	 */
+	public boolean wasRemoved() {
+		return !wasAdded;
+	}
+
+}
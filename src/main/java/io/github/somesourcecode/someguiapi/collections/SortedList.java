@@ -0,0 +1,389 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.collections;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A view of an {@link ObservableList} that contains the elements of the source in sorted order.
+ * <p>
+ * The sorted order is kept in a balanced search tree (a treap with subtree sizes),
+ * so adding or removing a source element costs O(log n) comparisons instead of sorting
+ * the whole list again, and only the position of that element is reported as changed.
+ * Elements that compare as equal keep the order in which they were added.
+ * <p>
+ * Elements must not change in a way that affects their order while they are in the source.
+ * Replace them in the source (e.g. using {@code set}) instead.
+ *
+ * @param <E> the type of elements in the list
+ * @since 2.2.0
+ */
+public class SortedList<E> extends TransformationList<E> {
+
+	private Comparator<? super E> comparator;
+
+	private final List<Entry<E>> entriesBySource = new ArrayList<>();
+	private Entry<E> root;
+	private long nextSequence;
+
+	/**
+	 * Constructs a new sorted list that sorts the elements of the source in their natural order.
+	 *
+	 * @param source the source list
+	 * @since 2.2.0
+	 */
+	public SortedList(ObservableList<E> source) {
+		this(source, null);
+	}
+
+	/**
+	 * Constructs a new sorted list that sorts the elements of the source with the specified comparator.
+	 *
+	 * @param source the source list
+	 * @param comparator the comparator, or null to use the natural order
+	 * @since 2.2.0
+	 */
+	public SortedList(ObservableList<E> source, Comparator<? super E> comparator) {
+		super(source);
+		this.comparator = comparator;
+		for (E element : source) {
+			final Entry<E> entry = new Entry<>(element, nextSequence++);
+			entry.sourceIndex = entriesBySource.size();
+			entriesBySource.add(entry);
+			root = insert(root, entry);
+		}
+	}
+
+	/**
+	 * Returns the comparator of this list.
+	 *
+	 * @return the comparator, or null if the natural order is used
+	 * @since 2.2.0
+	 */
+	public Comparator<? super E> getComparator() {
+		return comparator;
+	}
+
+	/**
+	 * Sets the comparator of this list. The elements are sorted again,
+	 * and the new order is reported as a single permutation.
+	 *
+	 * @param comparator the comparator, or null to use the natural order
+	 * @since 2.2.0
+	 */
+	public void setComparator(Comparator<? super E> comparator) {
+		this.comparator = comparator;
+		if (root == null) {
+			return;
+		}
+
+		final List<Entry<E>> oldOrder = new ArrayList<>(size());
+		collect(root, oldOrder);
+		for (int i = 0; i < oldOrder.size(); i++) {
+			oldOrder.get(i).rank = i;
+		}
+
+		final List<Entry<E>> newOrder = new ArrayList<>(entriesBySource);
+		newOrder.sort(this::compare);
+		root = build(newOrder, 0, newOrder.size());
+
+		final int[] permutation = new int[newOrder.size()];
+		boolean changed = false;
+		for (int i = 0; i < newOrder.size(); i++) {
+			final int oldRank = newOrder.get(i).rank;
+			permutation[oldRank] = i;
+			changed |= oldRank != i;
+		}
+		if (changed) {
+			beginChange();
+			try {
+				nextPermutation(0, permutation);
+			} finally {
+				endChange();
+			}
+		}
+	}
+
+	@Override
+	public E get(int index) {
+		return select(index).element;
+	}
+
+	@Override
+	public int size() {
+		return size(root);
+	}
+
+	@Override
+	public int getSourceIndex(int index) {
+		return select(index).sourceIndex;
+	}
+
+	@Override
+	protected void onSourceChanged(Change<? extends E> change) {
+		beginChange();
+		try {
+			while (change.next()) {
+				if (change.wasPermutated()) {
+					permutate(change);
+				} else {
+					update(change);
+				}
+			}
+		} finally {
+			endChange();
+		}
+	}
+
+	private void update(Change<? extends E> change) {
+		final int from = change.getFrom();
+		final int removedSize = change.getRemovedSize();
+		final List<? extends E> added = change.getAdded();
+
+		if (removedSize == 1 && added.size() == 1) {
+			final Entry<E> oldEntry = entriesBySource.get(from);
+			final int oldRank = rank(oldEntry);
+			root = delete(root, oldEntry);
+
+			final Entry<E> newEntry = new Entry<>(added.get(0), nextSequence++);
+			newEntry.sourceIndex = from;
+			entriesBySource.set(from, newEntry);
+			root = insert(root, newEntry);
+			final int newRank = rank(newEntry);
+
+			if (oldRank == newRank) {
+				nextReplace(newRank, Collections.singletonList(newEntry.element), Collections.singletonList(oldEntry.element));
+			} else {
+				nextRemove(oldRank, Collections.singletonList(oldEntry.element));
+				nextAdd(newRank, Collections.singletonList(newEntry.element));
+			}
+			return;
+		}
+
+		final List<Entry<E>> removedEntries = entriesBySource.subList(from, from + removedSize);
+		for (Entry<E> entry : removedEntries) {
+			final int rank = rank(entry);
+			root = delete(root, entry);
+			nextRemove(rank, Collections.singletonList(entry.element));
+		}
+		removedEntries.clear();
+
+		final List<Entry<E>> addedEntries = new ArrayList<>(added.size());
+		for (E element : added) {
+			final Entry<E> entry = new Entry<>(element, nextSequence++);
+			root = insert(root, entry);
+			nextAdd(rank(entry), Collections.singletonList(element));
+			addedEntries.add(entry);
+		}
+		entriesBySource.addAll(from, addedEntries);
+
+		if (removedSize != added.size()) {
+			renumber(from, entriesBySource.size());
+		} else {
+			renumber(from, from + added.size());
+		}
+	}
+
+	private void permutate(Change<? extends E> change) {
+		final int from = change.getFrom();
+		final int to = change.getTo();
+		final List<Entry<E>> permutated = new ArrayList<>(entriesBySource.subList(from, to));
+		for (int i = from; i < to; i++) {
+			entriesBySource.set(change.getPermutation(i), permutated.get(i - from));
+		}
+		renumber(from, to);
+	}
+
+	private void renumber(int from, int to) {
+		for (int i = from; i < to; i++) {
+			entriesBySource.get(i).sourceIndex = i;
+		}
+	}
+
+	/* *************************************************************************
+	 *                                                                         *
+	 *                                Treap                                    *
+	 *                                                                         *
+	 **************************************************************************/
+
+	@SuppressWarnings("unchecked")
+	private int compare(Entry<E> a, Entry<E> b) {
+		final int result = comparator != null
+				? comparator.compare(a.element, b.element)
+				: ((Comparable<? super E>) a.element).compareTo(b.element);
+		return result != 0 ? result : Long.compare(a.sequence, b.sequence);
+	}
+
+	private Entry<E> insert(Entry<E> node, Entry<E> entry) {
+		if (node == null) {
+			entry.left = null;
+			entry.right = null;
+			entry.size = 1;
+			return entry;
+		}
+		if (compare(entry, node) < 0) {
+			node.left = insert(node.left, entry);
+			if (node.left.priority > node.priority) {
+				node = rotateRight(node);
+			}
+		} else {
+			node.right = insert(node.right, entry);
+			if (node.right.priority > node.priority) {
+				node = rotateLeft(node);
+			}
+		}
+		update(node);
+		return node;
+	}
+
+	private Entry<E> delete(Entry<E> node, Entry<E> entry) {
+		if (node == entry) {
+			return merge(node.left, node.right);
+		}
+		if (compare(entry, node) < 0) {
+			node.left = delete(node.left, entry);
+		} else {
+			node.right = delete(node.right, entry);
+		}
+		update(node);
+		return node;
+	}
+
+	private Entry<E> merge(Entry<E> left, Entry<E> right) {
+		if (left == null) {
+			return right;
+		}
+		if (right == null) {
+			return left;
+		}
+		if (left.priority > right.priority) {
+			left.right = merge(left.right, right);
+			update(left);
+			return left;
+		}
+		right.left = merge(left, right.left);
+		update(right);
+		return right;
+	}
+
+	private Entry<E> build(List<Entry<E>> sorted, int from, int to) {
+		Entry<E> result = null;
+		for (int i = from; i < to; i++) {
+			result = insert(result, sorted.get(i));
+		}
+		return result;
+	}
+
+	private int rank(Entry<E> entry) {
+		int rank = 0;
+		Entry<E> node = root;
+		while (node != entry) {
+			if (compare(entry, node) < 0) {
+				node = node.left;
+			} else {
+				rank += size(node.left) + 1;
+				node = node.right;
+			}
+		}
+		return rank + size(node.left);
+	}
+
+	private Entry<E> select(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+		Entry<E> node = root;
+		while (true) {
+			final int leftSize = size(node.left);
+			if (index < leftSize) {
+				node = node.left;
+			} else if (index == leftSize) {
+				return node;
+			} else {
+				index -= leftSize + 1;
+				node = node.right;
+			}
+		}
+	}
+
+	private void collect(Entry<E> node, List<Entry<E>> result) {
+		if (node == null) {
+			return;
+		}
+		collect(node.left, result);
+		result.add(node);
+		collect(node.right, result);
+	}
+
+	private static <E> Entry<E> rotateRight(Entry<E> node) {
+		final Entry<E> left = node.left;
+		node.left = left.right;
+		left.right = node;
+		update(node);
+		update(left);
+		return left;
+	}
+
+	private static <E> Entry<E> rotateLeft(Entry<E> node) {
+		final Entry<E> right = node.right;
+		node.right = right.left;
+		right.left = node;
+		update(node);
+		update(right);
+		return right;
+	}
+
+	private static void update(Entry<?> node) {
+		node.size = size(node.left) + size(node.right) + 1;
+	}
+
+	private static int size(Entry<?> node) {
+		return node == null ? 0 : node.size;
+	}
+
+	private static final class Entry<E> {
+
+		private final E element;
+		private final long sequence;
+		private final int priority = ThreadLocalRandom.current().nextInt();
+
+		private Entry<E> left;
+		private Entry<E> right;
+		private int size = 1;
+
+		private int sourceIndex;
+		private int rank;
+
+		private Entry(E element, long sequence) {
+			this.element = element;
+			this.sequence = sequence;
+		}
+
+	}
+
+}
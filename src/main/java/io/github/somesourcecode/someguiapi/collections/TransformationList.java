@@ -0,0 +1,192 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.collections;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A read-only view of a source {@link ObservableList} that transforms it in some way,
+ * e.g. by filtering or sorting it.
+ * <p>
+ * A transformation list updates itself incrementally from the changes of its source
+ * and fires changes that only describe the affected range of the view.
+ * It cannot be modified directly; modify the source instead.
+ * <p>
+ * The source only holds a weak reference to the view, so views
+ * that are no longer used can be garbage collected.
+ *
+ * @param <E> the type of elements in the list
+ * @since 2.2.0
+ */
+public abstract class TransformationList<E> extends AbstractList<E> implements ObservableList<E> {
+
+	private final ObservableList<E> source;
+	private final ListChangeSupport<E> changeSupport = new ListChangeSupport<>(this);
+	private final ListChangeListener<E> sourceListener = this::onSourceChanged;
+
+	/**
+	 * Constructs a new transformation list over the specified source.
+	 *
+	 * @param source the source list
+	 * @throws IllegalArgumentException if the source is null
+	 * @since 2.2.0
+	 */
+	protected TransformationList(ObservableList<E> source) {
+		if (source == null) {
+			throw new IllegalArgumentException("Source cannot be null");
+		}
+		this.source = source;
+		source.addListener(new WeakListChangeListener<>(sourceListener));
+	}
+
+	/**
+	 * Returns the source list of this view.
+	 *
+	 * @return the source list
+	 * @since 2.2.0
+	 */
+	public ObservableList<E> getSource() {
+		return source;
+	}
+
+	/**
+	 * Returns the index in the source list of the element at the specified index of this view.
+	 *
+	 * @param index the index in this view
+	 * @return the index in the source list
+	 * @throws IndexOutOfBoundsException if the index is out of bounds
+	 * @since 2.2.0
+	 */
+	public abstract int getSourceIndex(int index);
+
+	/**
+	 * Called whenever the source list changes. Implementations update their state
+	 * and describe the resulting changes of this view with the {@code next*} methods.
+	 *
+	 * @param change the change of the source list
+	 * @since 2.2.0
+	 */
+	protected abstract void onSourceChanged(Change<? extends E> change);
+
+	@Override
+	public void addListener(ListChangeListener<? super E> listener) {
+		changeSupport.addListener(listener);
+	}
+
+	@Override
+	public void removeListener(ListChangeListener<? super E> listener) {
+		changeSupport.removeListener(listener);
+	}
+
+	@Override
+	public void beginChange() {
+		changeSupport.beginChange();
+	}
+
+	@Override
+	public void endChange() {
+		changeSupport.endChange();
+	}
+
+	/**
+	 * Fires a step in which the specified elements were added at the specified index.
+	 *
+	 * @param from the index of the first added element
+	 * @param added the added elements
+	 * @since 2.2.0
+	 */
+	protected final void nextAdd(int from, List<E> added) {
+		nextReplace(from, added, Collections.emptyList());
+	}
+
+	/**
+	 * Fires a step in which the specified elements were removed at the specified index.
+	 *
+	 * @param from the index of the first removed element
+	 * @param removed the removed elements
+	 * @since 2.2.0
+	 */
+	protected final void nextRemove(int from, List<E> removed) {
+		nextReplace(from, Collections.emptyList(), removed);
+	}
+
+	/**
+	 * Fires a step in which elements were removed at the specified index
+	 * and other elements were added at the same index.
+	 *
+	 * @param from the index of the first removed and added element
+	 * @param added the added elements
+	 * @param removed the removed elements
+	 * @since 2.2.0
+	 */
+	protected final void nextReplace(int from, List<E> added, List<E> removed) {
+		if (added.isEmpty() && removed.isEmpty()) {
+			return;
+		}
+		changeSupport.fireStep(Change.Step.replace(from, added, removed));
+	}
+
+	/**
+	 * Fires a step in which the elements from the specified index were reordered.
+	 * The element at {@code from + i} moved to {@code permutation[i]}.
+	 *
+	 * @param from the index of the first permutated element
+	 * @param permutation the new indices of the elements
+	 * @since 2.2.0
+	 */
+	protected final void nextPermutation(int from, int[] permutation) {
+		changeSupport.fireStep(Change.Step.permutate(from, permutation));
+	}
+
+	@Override
+	public boolean addAll(E... elements) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean removeAll(E... elements) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean retainAll(E... elements) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean setAll(@NotNull Collection<? extends E> elements) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean setAll(E... elements) {
+		throw new UnsupportedOperationException();
+	}
+
+}
@@ -69,6 +69,12 @@ public abstract class VetoableListDecorator<E> implements ObservableList<E> {
 	 */
 	protected abstract void onProposedChange(List<E> toBeAdded, int... toBeRemoved);
 
+	private void checkPositionIndex(int index) {
+		if (index < 0 || index > size()) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+	}
+
 	private void removeFromList(Collection<?> collection, boolean complement) {
 		int[] toBeRemoved = new int[0];
 		int pointer = 0;
@@ -136,7 +142,11 @@ public abstract class VetoableListDecorator<E> implements ObservableList<E> {
 
 	@Override
 	public boolean remove(Object o) {
-		onProposedChange(Collections.emptyList(), indexOf(o));
+		final int index = indexOf(o);
+		if (index < 0) {
+			return false;
+		}
+		onProposedChange(Collections.emptyList(), index, index + 1);
 		return baseList.remove(o);
 	}
 
@@ -158,6 +168,7 @@ public abstract class VetoableListDecorator<E> implements ObservableList<E> {
 
 	@Override
 	public boolean addAll(int index, @NotNull Collection<? extends E> c) {
+		checkPositionIndex(index);
 		onProposedChange(List.copyOf(c));
 		return baseList.addAll(index, c);
 	}
@@ -169,8 +180,9 @@ public abstract class VetoableListDecorator<E> implements ObservableList<E> {
 
 	@Override
 	public boolean removeAll(@NotNull Collection<?> c) {
-		removeFromList(c, false);
-		return baseList.removeAll(c);
+		final Collection<?> lookup = ObservableListBase.toLookup(c);
+		removeFromList(lookup, false);
+		return baseList.removeAll(lookup);
 	}
 
 	@Override
@@ -180,8 +192,9 @@ public abstract class VetoableListDecorator<E> implements ObservableList<E> {
 
 	@Override
 	public boolean retainAll(@NotNull Collection<?> c) {
-		removeFromList(c, true);
-		return baseList.retainAll(c);
+		final Collection<?> lookup = ObservableListBase.toLookup(c);
+		removeFromList(lookup, true);
+		return baseList.retainAll(lookup);
 	}
 
 	@Override
@@ -190,6 +203,27 @@ public abstract class VetoableListDecorator<E> implements ObservableList<E> {
 		baseList.clear();
 	}
 
+	@Override
+	public boolean setAll(E... elements) {
+		return setAll(Arrays.asList(elements));
+	}
+
+	@Override
+	public boolean setAll(@NotNull Collection<? extends E> elements) {
+		onProposedChange(List.copyOf(elements), 0, size());
+		return baseList.setAll(elements);
+	}
+
+	@Override
+	public void beginChange() {
+		baseList.beginChange();
+	}
+
+	@Override
+	public void endChange() {
+		baseList.endChange();
+	}
+
 	@Override
 	public E get(int index) {
 		return baseList.get(index);
@@ -203,6 +237,7 @@ public abstract class VetoableListDecorator<E> implements ObservableList<E> {
 
 	@Override
 	public void add(int index, E element) {
+		checkPositionIndex(index);
 		onProposedChange(Collections.singletonList(element));
 		baseList.add(index, element);
 	}
@@ -213,6 +248,11 @@ public abstract class VetoableListDecorator<E> implements ObservableList<E> {
 		return baseList.remove(index);
 	}
 
+	@Override
+	public void sort(Comparator<? super E> c) {
+		baseList.sort(c);
+	}
+
 	@Override
 	public int indexOf(Object o) {
 		return baseList.indexOf(o);
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.collections;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * A {@link MapChangeListener} that only holds a weak reference to the actual listener.
+ * Once the listener was garbage collected, this listener removes itself from the map.
+ *
+ * @param <K> the type of keys in the map
+ * @param <V> the type of values in the map
+ * @see WeakListChangeListener
+ * @since 2.2.0
+ */
+public final class WeakMapChangeListener<K, V> implements MapChangeListener<K, V>, WeakListener {
+
+	private final WeakReference<MapChangeListener<K, V>> reference;
+
+	/**
+	 * Constructs a new weak listener for the specified listener.
+	 *
+	 * @param listener the actual listener
+	 * @throws IllegalArgumentException if the listener is null
+	 * @since 2.2.0
+	 */
+	public WeakMapChangeListener(MapChangeListener<K, V> listener) {
+		if (listener == null) {
+			throw new IllegalArgumentException("Listener cannot be null");
+		}
+		this.reference = new WeakReference<>(listener);
+	}
+
+	@Override
+	public boolean wasGarbageCollected() {
+		return reference.get() == null;
+	}
+
+	@Override
+	public void onChanged(MapChange<? extends K, ? extends V> change) {
+		final MapChangeListener<K, V> listener = reference.get();
+		if (listener != null) {
+			listener.onChanged(change);
+		} else if (change.getMap() != null) {
+			change.getMap().removeListener(this);
+		}
+	}
+
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.scene;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The backing list of the children of a {@link Parent}.
+ * <p>
+ * Every node stores its index in the list, and the indices are updated whenever
+ * elements are shifted. Lookups verify that index against the array, so
+ * {@link #indexOf(Object)} and {@link #contains(Object)} are O(1) instead of a linear scan.
+ * <p>
+ * This relies on a node being contained in at most one child list, which {@link Parent}
+ * guarantees by detaching nodes from their previous parent before they are added.
+ * <p>
+ * Whenever a change is {@link #markComplete() completed}, the list publishes its content as an
+ * immutable snapshot in O(1) through a volatile field, so snapshots can be read from any thread
+ * without locking. The published part of the array is never written to again: the first write
+ * below the published size copies the array. Appending beyond it, the common case when
+ * children are added one by one, keeps using the same array.
+ *
+ * @since 2.2.0
+ */
+final class ChildList extends AbstractList<Node> implements RandomAccess {
+
+	private Node[] elements = new Node[8];
+	private int size;
+
+	private boolean shared;
+	private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+	/**
+	 * Publishes the current content of this list as the result of a completed change.
+	 * Must be called by the thread that modifies the list.
+	 */
+	void markComplete() {
+		final Snapshot published = snapshot;
+		if (published.elements == elements && published.size == size) {
+			return;
+		}
+		snapshot = size == 0 ? Snapshot.EMPTY : new Snapshot(elements, size);
+		shared = size != 0;
+	}
+
+	/**
+	 * Returns the snapshot of the content after the last completed change. Can be called from any thread.
+	 */
+	List<Node> getSnapshot() {
+		return snapshot;
+	}
+
+	@Override
+	public Node get(int index) {
+		checkIndex(index);
+		return elements[index];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Node set(int index, Node element) {
+		checkIndex(index);
+		ensureWritable(index);
+		final Node previous = elements[index];
+		elements[index] = element;
+		element.indexInParent = index;
+		return previous;
+	}
+
+	@Override
+	public void add(int index, Node element) {
+		checkPositionIndex(index);
+		ensureCapacity(size + 1);
+		ensureWritable(index);
+		System.arraycopy(elements, index, elements, index + 1, size - index);
+		elements[index] = element;
+		size++;
+		modCount++;
+		renumber(index);
+	}
+
+	@Override
+	public boolean addAll(int index, Collection<? extends Node> c) {
+		checkPositionIndex(index);
+		final Object[] added = c.toArray();
+		if (added.length == 0) {
+			return false;
+		}
+		ensureCapacity(size + added.length);
+		ensureWritable(index);
+		System.arraycopy(elements, index, elements, index + added.length, size - index);
+		System.arraycopy(added, 0, elements, index, added.length);
+		size += added.length;
+		modCount++;
+		renumber(index);
+		return true;
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends Node> c) {
+		return addAll(size, c);
+	}
+
+	@Override
+	public Node remove(int index) {
+		checkIndex(index);
+		ensureWritable(index);
+		final Node removed = elements[index];
+		System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+		elements[--size] = null;
+		modCount++;
+		renumber(index);
+		return removed;
+	}
+
+	@Override
+	protected void removeRange(int fromIndex, int toIndex) {
+		ensureWritable(fromIndex);
+		System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+		Arrays.fill(elements, size - (toIndex - fromIndex), size, null);
+		size -= toIndex - fromIndex;
+		modCount++;
+		renumber(fromIndex);
+	}
+
+	@Override
+	public void clear() {
+		if (shared) {
+			elements = new Node[elements.length];
+			shared = false;
+		} else {
+			Arrays.fill(elements, 0, size, null);
+		}
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public int indexOf(Object o) {
+		if (!(o instanceof Node node)) {
+			return -1;
+		}
+		final int index = node.indexInParent;
+		return index >= 0 && index < size && elements[index] == node ? index : -1;
+	}
+
+	@Override
+	public int lastIndexOf(Object o) {
+		return indexOf(o);
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return indexOf(o) >= 0;
+	}
+
+	private void renumber(int fromIndex) {
+		for (int i = fromIndex; i < size; i++) {
+			elements[i].indexInParent = i;
+		}
+	}
+
+	/**
+	 * Copies the array before the specified index is written to, if that index is part of the published snapshot.
+	 */
+	private void ensureWritable(int fromIndex) {
+		if (shared && fromIndex < snapshot.size) {
+			elements = elements.clone();
+			shared = false;
+		}
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > elements.length) {
+			elements = Arrays.copyOf(elements, Math.max(capacity, elements.length + (elements.length >> 1)));
+			shared = false;
+		}
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	private void checkPositionIndex(int index) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	private static final class Snapshot extends AbstractList<Node> implements RandomAccess {
+
+		private static final Snapshot EMPTY = new Snapshot(new Node[0], 0);
+
+		private final Node[] elements;
+		private final int size;
+
+		private Snapshot(Node[] elements, int size) {
+			this.elements = elements;
+			this.size = size;
+		}
+
+		@Override
+		public Node get(int index) {
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+			}
+			return elements[index];
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+	}
+
+}
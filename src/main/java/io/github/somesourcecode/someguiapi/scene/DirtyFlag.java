@@ -32,6 +32,7 @@ public enum DirtyFlag {
 
 	GUI_TITLE,
 	GUI_ROWS,
-	GUI_CONTENT
+	GUI_CONTENT,
+	GUI_SLOTS
 
 }
@@ -25,6 +25,7 @@ package io.github.somesourcecode.someguiapi.scene;
 
 import io.github.somesourcecode.someguiapi.scene.context.NodeClickContext;
 import io.github.somesourcecode.someguiapi.scene.context.PixelRenderContext;
+import io.github.somesourcecode.someguiapi.scene.context.RenderDependency;
 import io.github.somesourcecode.someguiapi.scene.lore.Lore;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Material;
@@ -42,7 +43,8 @@ import java.util.function.Function;
  */
 public class GuiItem extends Node {
 
-	private final Pixel pixel;
+	private Pixel pixel;
+	private boolean pixelShared;
 
 	/**
 	 * Constructs a new GuiItem with an empty pixel.
@@ -95,7 +97,7 @@ public class GuiItem extends Node {
 	 * @since 1.0.0
 	 */
 	public void setMaterial(Material material) {
-		pixel.setMaterial(material);
+		getOwnPixel().setMaterial(material);
 	}
 
 	/**
@@ -116,7 +118,7 @@ public class GuiItem extends Node {
 	 * @since 1.0.0
 	 */
 	public void setTitle(Component title) {
-		pixel.setTitle(title);
+		getOwnPixel().setTitle(title);
 	}
 
 	/**
@@ -139,7 +141,21 @@ public class GuiItem extends Node {
 	 * @since 2.1.0
 	 */
 	public void setDynamicTitle(Function<? super PixelRenderContext, Component> titleFunction) {
-		pixel.setDynamicTitle(titleFunction);
+		getOwnPixel().setDynamicTitle(titleFunction);
+	}
+
+	/**
+	 * Sets the title of the item to be generated by the specified function during rendering.
+	 * The function is only called again if the version of one of the dependencies has changed.
+	 *
+	 * @param titleFunction the title function
+	 * @param dependencies the dependencies of the title
+	 * @throws IllegalArgumentException if one of the dependencies is null
+	 * @see Pixel#setDynamicTitle(Function, RenderDependency...)
+	 * @since 2.2.0
+	 */
+	public void setDynamicTitle(Function<? super PixelRenderContext, Component> titleFunction, RenderDependency... dependencies) {
+		getOwnPixel().setDynamicTitle(titleFunction, dependencies);
 	}
 
 	/**
@@ -149,7 +165,7 @@ public class GuiItem extends Node {
 	 * @since 2.0.0
 	 */
 	public Lore getLore() {
-		return pixel.getLore();
+		return getOwnPixel().getLore();
 	}
 
 	/**
@@ -159,7 +175,7 @@ public class GuiItem extends Node {
 	 * @since 2.0.0
 	 */
 	public void setLore(Lore lore) {
-		pixel.setLore(lore);
+		getOwnPixel().setLore(lore);
 	}
 
 	/**
@@ -179,7 +195,7 @@ public class GuiItem extends Node {
 	 * @since 1.0.0
 	 */
 	public void setIndex(int index) {
-		pixel.setIndex(index);
+		getOwnPixel().setIndex(index);
 	}
 
 	/**
@@ -199,7 +215,7 @@ public class GuiItem extends Node {
 	 * @since 1.0.0
 	 */
 	public void setGlow(boolean glow) {
-		pixel.setGlow(glow);
+		getOwnPixel().setGlow(glow);
 	}
 
 	/**
@@ -209,7 +225,7 @@ public class GuiItem extends Node {
 	 * @since 2.0.0
 	 */
 	public Pixel getPixel() {
-		return isVisible() ? pixel : null;
+		return isVisible() ? getOwnPixel() : null;
 	}
 
 	/**
@@ -228,7 +244,11 @@ public class GuiItem extends Node {
 		if (!isInBounds) {
 			return null;
 		}
-		return getPixel();
+		// the render caches of a pixel are only valid for a single GUI
+		if (pixelShared && pixel.hasRenderState()) {
+			return getOwnPixel();
+		}
+		return pixel;
 	}
 
 	/**
@@ -243,6 +263,30 @@ public class GuiItem extends Node {
 		return isInBounds ? this : null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The pixel of this item is shared with the copy until either of the two
+	 * items is modified or hands out its pixel or lore, which may be modified by the caller.
+	 * Pixels with a dynamic title or a lore that is not frozen cache the results of the last
+	 * render, so they are also detached when the item is rendered for the first time.
+	 */
+	@Override
+	public GuiItem copy() {
+		final GuiItem copy = (GuiItem) super.copy();
+		pixelShared = true;
+		copy.pixelShared = true;
+		return copy;
+	}
+
+	private Pixel getOwnPixel() {
+		if (pixelShared) {
+			pixel = pixel.copy();
+			pixelShared = false;
+		}
+		return pixel;
+	}
+
 	/* *************************************************************************
 	 *                                                                         *
 	 *                              Builder                                    *
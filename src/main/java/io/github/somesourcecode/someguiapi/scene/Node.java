@@ -23,12 +23,17 @@
 
 package io.github.somesourcecode.someguiapi.scene;
 
+import io.github.somesourcecode.someguiapi.collections.ObservableList;
+import io.github.somesourcecode.someguiapi.collections.ObservableSet;
+import io.github.somesourcecode.someguiapi.collections.ObservableSetBase;
 import io.github.somesourcecode.someguiapi.scene.context.Context;
 import io.github.somesourcecode.someguiapi.scene.context.NodeClickContext;
+import io.github.somesourcecode.someguiapi.scene.gui.GuiHelper;
 import org.bukkit.Bukkit;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.logging.Level;
@@ -65,7 +70,7 @@ import java.util.logging.Level;
  *
  * @since 1.0.0
  */
-public abstract class Node {
+public abstract class Node implements Cloneable {
 
 	static {
 		NodeHelper.setNodeAccessor(new NodeHelper.NodeAccessor() {
@@ -78,13 +83,20 @@ public abstract class Node {
 			public void setParent(Node node, Parent parent) {
 				node.setParent(parent);
 			}
+
+			@Override
+			public void setLayoutRequestsSuppressed(Parent parent, boolean suppressed) {
+				parent.layoutRequestsSuppressed = suppressed;
+			}
 		});
 	}
 
 	private Scene scene;
 	private Parent parent;
+	int indexInParent = -1;
 
 	private String id;
+	private ObservableSet<String> styleClass;
 
 	private int layoutX;
 	private int layoutY;
@@ -119,6 +131,14 @@ public abstract class Node {
 	 * @since 2.0.0
 	 */
 	private void setScene(Scene scene) {
+		if (this.scene != scene) {
+			if (this.scene != null) {
+				this.scene.unregister(this);
+			}
+			if (scene != null) {
+				scene.register(this);
+			}
+		}
 		this.scene = scene;
 		if (this instanceof Parent asParent) {
 			for (Node child : asParent.getChildren()) {
@@ -166,7 +186,50 @@ public abstract class Node {
 	 * @since 2.0.0
 	 */
 	public final void setId(String id) {
+		final String oldId = this.id;
 		this.id = id;
+		if (scene != null) {
+			scene.updateId(this, oldId, id);
+		}
+	}
+
+	/**
+	 * Returns the style classes of this node.
+	 * Style classes can be used to find nodes with a {@link Selector}, for example {@code .my-class}.
+	 *
+	 * @return the style classes of this node
+	 * @since 2.2.0
+	 */
+	public final ObservableSet<String> getStyleClass() {
+		if (styleClass == null) {
+			styleClass = new ObservableSetBase<>(new LinkedHashSet<>(2));
+			styleClass.addListener(change -> {
+				if (scene == null) {
+					return;
+				}
+				if (change.wasAdded()) {
+					scene.addStyleClass(this, change.getElementAdded());
+				} else {
+					scene.removeStyleClass(this, change.getElementRemoved());
+				}
+			});
+		}
+		return styleClass;
+	}
+
+	/**
+	 * Returns whether this node has the given style class.
+	 *
+	 * @param styleClass the style class
+	 * @return whether this node has the given style class
+	 * @since 2.2.0
+	 */
+	public final boolean hasStyleClass(String styleClass) {
+		return this.styleClass != null && this.styleClass.contains(styleClass);
+	}
+
+	Set<String> getStyleClassesOrEmpty() {
+		return styleClass == null ? Collections.emptySet() : styleClass;
 	}
 
 	/**
@@ -174,19 +237,53 @@ public abstract class Node {
 	 * <p>
 	 * For example, to find a node with the id "my-node", the method can be
 	 * used like this: {@code scene.lookup("#my-node")}.
+	 * <p>
+	 * The selector is compiled on every call. Lookups that run frequently should
+	 * compile the selector once and use {@link #lookup(Selector)} instead.
 	 *
 	 * @param selector the selector
 	 * @return the first node that matches the selector, null if none is found
+	 * @throws IllegalArgumentException if the selector is malformed
+	 * @see Selector
 	 * @since 2.0.0
 	 */
 	public Node lookup(String selector) {
-		if (selector == null || id == null) {
+		if (selector == null) {
 			return null;
 		}
-		if (selector.equals("#" + id)) {
-			return this;
+		return lookup(Selector.compile(selector));
+	}
+
+	/**
+	 * Finds this {@code Node} or the first sub-node that matches the given selector.
+	 * <p>
+	 * If this node is part of a scene and the selector contains an id or a style class,
+	 * the index of the scene is used instead of traversing the subtree.
+	 *
+	 * @param selector the compiled selector
+	 * @return the first node that matches the selector, null if none is found
+	 * @since 2.2.0
+	 */
+	public final Node lookup(Selector selector) {
+		if (selector == null) {
+			return null;
 		}
-		return null;
+		if (scene != null && Scene.isIndexed(selector)) {
+			return scene.lookupIndexed(selector, this);
+		}
+		return findFirst(selector);
+	}
+
+	/**
+	 * Used by Node and Parent to traverse the scene graph to find
+	 * the first node that matches the given selector.
+	 *
+	 * @param selector the selector
+	 * @return the first node that matches the selector, null if none is found
+	 * @since 2.2.0
+	 */
+	protected Node findFirst(Selector selector) {
+		return selector.matches(this) ? this : null;
 	}
 
 	/**
@@ -197,15 +294,42 @@ public abstract class Node {
 	 *
 	 * @param selector the selector
 	 * @return a set of nodes that match the selector. This is always non-null and unmodifiable.
+	 * @throws IllegalArgumentException if the selector is malformed
+	 * @see Selector
 	 * @since 2.0.0
 	 */
+	@SuppressWarnings("deprecation")
 	public Set<Node> lookupAll(String selector) {
-		final Set<Node> empty = Collections.emptySet();
 		if (selector == null) {
-			return empty;
+			return Collections.emptySet();
+		}
+		final Set<Node> results = lookupAll(selector, null);
+		return results == null ? Collections.emptySet() : Collections.unmodifiableSet(results);
+	}
+
+	/**
+	 * Finds all nodes that match the given selector.
+	 * <p>
+	 * If this node is part of a scene and the selector contains an id or a style class,
+	 * the index of the scene is used instead of traversing the subtree.
+	 *
+	 * @param selector the compiled selector
+	 * @return a set of nodes that match the selector. This is always non-null and unmodifiable.
+	 * @since 2.2.0
+	 */
+	public final Set<Node> lookupAll(Selector selector) {
+		if (selector == null) {
+			return Collections.emptySet();
 		}
-		Set<Node> results = lookupAll(selector, null);
-		return results == null ? empty : Collections.unmodifiableSet(results);
+		final Set<Node> results = lookupAllFromIndex(selector);
+		return results == null ? Collections.emptySet() : Collections.unmodifiableSet(results);
+	}
+
+	private Set<Node> lookupAllFromIndex(Selector selector) {
+		if (scene != null && Scene.isIndexed(selector)) {
+			return scene.lookupAllIndexed(selector, this, null);
+		}
+		return lookupAll(selector, null);
 	}
 
 	/**
@@ -215,14 +339,35 @@ public abstract class Node {
 	 * @param selector the selector
 	 * @param results the results
 	 * @return a set of nodes that match the selector; null if none is found
+	 * @deprecated since 2.2.0 in favor of {@link #lookupAll(Selector, Set)}.
+	 * This method is still called by {@link #lookupAll(String)} on the node the lookup
+	 * starts from, but descendants are traversed with {@link #lookupAll(Selector, Set)},
+	 * so overrides of this method on descendants are no longer called.
 	 * @since 2.0.0
 	 */
+	@Deprecated(since = "2.2.0")
 	protected Set<Node> lookupAll(String selector, Set<Node> results) {
-		if (selector == null || id == null) {
+		if (selector == null) {
 			return results;
 		}
+		final Selector compiled = Selector.compile(selector);
+		if (results == null) {
+			return lookupAllFromIndex(compiled);
+		}
+		return lookupAll(compiled, results);
+	}
 
-		if (selector.equals("#" + id)) {
+	/**
+	 * Used by Node and Parent to traverse the scene graph to find
+	 * all nodes that match the given selector.
+	 *
+	 * @param selector the selector
+	 * @param results the results
+	 * @return a set of nodes that match the selector; null if none is found
+	 * @since 2.2.0
+	 */
+	protected Set<Node> lookupAll(Selector selector, Set<Node> results) {
+		if (selector.matches(this)) {
 			if (results == null) {
 				results = new HashSet<>();
 			}
@@ -244,6 +389,54 @@ public abstract class Node {
 		}
 	}
 
+	/**
+	 * Requests a render of the slots covered by this node, without requesting
+	 * a layout update. This must be called whenever a change occurs that affects
+	 * how this node is displayed, but can't be picked up by the system, e.g. the
+	 * change of a lore.
+	 * <p>
+	 * Only the requested slots will be rendered again when the GUI is updated,
+	 * unless a full render is requested in the meantime.
+	 *
+	 * @since 2.2.0
+	 */
+	public void requestRender() {
+		requestRender(0, 0, getWidth(), getHeight());
+	}
+
+	/**
+	 * Requests a render of the slots that display the specified area of this node,
+	 * without requesting a layout update.
+	 *
+	 * @param x the x coordinate of the area, relative to this node
+	 * @param y the y coordinate of the area, relative to this node
+	 * @param width the width of the area
+	 * @param height the height of the area
+	 * @since 2.2.0
+	 */
+	protected void requestRender(int x, int y, int width, int height) {
+		if (scene == null || scene.getGui() == null) {
+			return;
+		}
+
+		int guiX = x;
+		int guiY = y;
+		Node node = this;
+		while (node != null) {
+			guiX += node.getLayoutX();
+			guiY += node.getLayoutY();
+
+			Parent parent = node.getParent();
+			if (parent != null) {
+				guiX -= parent.getViewportX();
+				guiY -= parent.getViewportY();
+			}
+			node = parent;
+		}
+
+		GuiHelper.setDirtySlots(scene.getGui(), guiX, guiY, width, height);
+	}
+
 	/**
 	 * Returns the x coordinate of the node's origin.
 	 * The origin is the top-left corner of the node.
@@ -606,6 +799,86 @@ public abstract class Node {
 	 */
 	public abstract Node nodeAt(int x, int y);
 
+	/**
+	 * Moves this node to the front of its siblings, so that it is
+	 * rendered on top of them. Does nothing if this node has no parent.
+	 *
+	 * @since 2.2.0
+	 */
+	public void toFront() {
+		final Parent parent = this.parent;
+		if (parent == null) {
+			return;
+		}
+		final ObservableList<Node> siblings = parent.getChildren();
+		final int index = siblings.indexOf(this);
+		if (index < 0 || index == siblings.size() - 1) {
+			return;
+		}
+		siblings.beginChange();
+		try {
+			siblings.remove(index);
+			siblings.add(this);
+		} finally {
+			siblings.endChange();
+		}
+	}
+
+	/**
+	 * Moves this node to the back of its siblings, so that it is
+	 * rendered below them. Does nothing if this node has no parent.
+	 *
+	 * @since 2.2.0
+	 */
+	public void toBack() {
+		final Parent parent = this.parent;
+		if (parent == null) {
+			return;
+		}
+		final ObservableList<Node> siblings = parent.getChildren();
+		final int index = siblings.indexOf(this);
+		if (index <= 0) {
+			return;
+		}
+		siblings.beginChange();
+		try {
+			siblings.remove(index);
+			siblings.add(0, this);
+		} finally {
+			siblings.endChange();
+		}
+	}
+
+	/**
+	 * Creates a copy of this node that is not part of any scene or parent.
+	 * <p>
+	 * Copies are cheap: immutable values, such as components, frozen lores, backgrounds and
+	 * click handlers, are shared with this node instead of being rebuilt. This makes it
+	 * possible to build a tree once as a prototype and hand out a copy to every viewer.
+	 * <p>
+	 * Subclasses that hold mutable state must override this method and detach that
+	 * state from the returned copy.
+	 *
+	 * @return the copy of this node
+	 * @since 2.2.0
+	 */
+	public Node copy() {
+		final Node copy;
+		try {
+			copy = (Node) super.clone();
+		} catch (CloneNotSupportedException e) {
+			throw new AssertionError(e);
+		}
+		copy.scene = null;
+		copy.parent = null;
+		copy.indexInParent = -1;
+		copy.styleClass = null;
+		if (styleClass != null && !styleClass.isEmpty()) {
+			copy.getStyleClass().addAll(styleClass);
+		}
+		return copy;
+	}
+
 	/**
 	 * Calls the given callback with the specified context.
 	 * If the callback throws an exception, the exception is caught and logged.
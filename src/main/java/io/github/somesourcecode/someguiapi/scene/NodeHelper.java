@@ -44,6 +44,18 @@ public class NodeHelper {
 		nodeAccessor.setParent(node, parent);
 	}
 
+	/**
+	 * Sets whether layout requests of the specified parent are ignored. While they are ignored,
+	 * changes to its children neither lay out the parent again nor bubble up to the root.
+	 *
+	 * @param parent the parent
+	 * @param suppressed whether layout requests are ignored
+	 * @since 2.2.0
+	 */
+	public static void setLayoutRequestsSuppressed(Parent parent, boolean suppressed) {
+		nodeAccessor.setLayoutRequestsSuppressed(parent, suppressed);
+	}
+
 	public static void setNodeAccessor(final NodeAccessor newAccessor) {
 		if (nodeAccessor != null) {
 			throw new IllegalStateException();
@@ -64,6 +76,8 @@ public class NodeHelper {
 
 		void setParent(Node node, Parent parent);
 
+		void setLayoutRequestsSuppressed(Parent parent, boolean suppressed);
+
 	}
 
 }
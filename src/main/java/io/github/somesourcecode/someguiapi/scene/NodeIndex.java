@@ -0,0 +1,204 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.scene;
+
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from keys, such as ids or style classes, to the nodes of a scene.
+ * <p>
+ * Most keys belong to a single node, so the node is stored directly and a set
+ * is only created once a second node is added under the same key. The set is keyed
+ * by identity, so nodes are added and removed in constant time.
+ *
+ * @since 2.2.0
+ */
+final class NodeIndex {
+
+	private final Map<String, Object> nodes = new HashMap<>();
+
+	void add(String key, Node node) {
+		if (key == null) {
+			return;
+		}
+		nodes.merge(key, node, (existing, added) -> {
+			if (existing instanceof NodeSet set) {
+				set.add(node);
+				return set;
+			}
+			final NodeSet set = new NodeSet();
+			set.add((Node) existing);
+			set.add(node);
+			return set;
+		});
+	}
+
+	void remove(String key, Node node) {
+		if (key == null) {
+			return;
+		}
+		nodes.computeIfPresent(key, (k, existing) -> {
+			if (existing == node) {
+				return null;
+			}
+			if (existing instanceof NodeSet set) {
+				set.remove(node);
+				return set.size() == 1 ? set.iterator().next() : set;
+			}
+			return existing;
+		});
+	}
+
+	/**
+	 * Returns the number of nodes stored under the given key.
+	 */
+	int count(String key) {
+		final Object value = nodes.get(key);
+		if (value == null) {
+			return 0;
+		}
+		return value instanceof NodeSet set ? set.size() : 1;
+	}
+
+	/**
+	 * Returns the first node in tree order stored under the given key that matches
+	 * the selector and is contained in the subtree of the given node.
+	 */
+	Node findFirst(String key, Selector selector, Node subtree) {
+		final Object value = nodes.get(key);
+		if (value instanceof Node node) {
+			return selector.matches(node) && isInSubtree(node, subtree) ? node : null;
+		}
+		if (value == null) {
+			return null;
+		}
+		Node first = null;
+		for (Node node : (NodeSet) value) {
+			if (selector.matches(node) && isInSubtree(node, subtree) && (first == null || compareTreeOrder(node, first) < 0)) {
+				first = node;
+			}
+		}
+		return first;
+	}
+
+	/**
+	 * Adds all nodes stored under the given key that match the selector and are
+	 * contained in the subtree of the given node to the results.
+	 */
+	Set<Node> findAll(String key, Selector selector, Node subtree, Set<Node> results) {
+		final Object value = nodes.get(key);
+		if (value instanceof Node node) {
+			return collect(node, selector, subtree, results);
+		}
+		if (value != null) {
+			for (Node node : (NodeSet) value) {
+				results = collect(node, selector, subtree, results);
+			}
+		}
+		return results;
+	}
+
+	private static Set<Node> collect(Node node, Selector selector, Node subtree, Set<Node> results) {
+		if (selector.matches(node) && isInSubtree(node, subtree)) {
+			if (results == null) {
+				results = new HashSet<>();
+			}
+			results.add(node);
+		}
+		return results;
+	}
+
+	private static boolean isInSubtree(Node node, Node subtree) {
+		for (Node current = node; current != null; current = current.getParent()) {
+			if (current == subtree) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Compares two nodes of the same scene by their position in a depth-first traversal.
+	 */
+	private static int compareTreeOrder(Node a, Node b) {
+		final int depthA = depth(a);
+		final int depthB = depth(b);
+		for (int i = depthA; i > depthB; i--) {
+			a = a.getParent();
+		}
+		for (int i = depthB; i > depthA; i--) {
+			b = b.getParent();
+		}
+		if (a == b) {
+			// One node is an ancestor of the other, and ancestors are visited first
+			return Integer.compare(depthA, depthB);
+		}
+		while (a.getParent() != b.getParent()) {
+			a = a.getParent();
+			b = b.getParent();
+		}
+		return Integer.compare(a.indexInParent, b.indexInParent);
+	}
+
+	private static int depth(Node node) {
+		int depth = 0;
+		for (Node current = node.getParent(); current != null; current = current.getParent()) {
+			depth++;
+		}
+		return depth;
+	}
+
+	private static final class NodeSet extends AbstractSet<Node> {
+
+		private final Map<Node, Boolean> nodes = new IdentityHashMap<>(4);
+
+		@Override
+		public boolean add(Node node) {
+			return nodes.put(node, Boolean.TRUE) == null;
+		}
+
+		@Override
+		public boolean remove(Object node) {
+			return nodes.remove(node) != null;
+		}
+
+		@Override
+		public Iterator<Node> iterator() {
+			return nodes.keySet().iterator();
+		}
+
+		@Override
+		public int size() {
+			return nodes.size();
+		}
+
+	}
+
+}
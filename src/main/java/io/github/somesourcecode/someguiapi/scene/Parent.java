@@ -29,7 +29,8 @@ import io.github.somesourcecode.someguiapi.collections.VetoableListDecorator;
 import io.github.somesourcecode.someguiapi.scene.gui.GuiHelper;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
 
@@ -43,9 +44,11 @@ import java.util.Set;
  */
 public abstract class Parent extends Node {
 
-	private final ObservableList<Node> children;
+	private ObservableList<Node> children;
+	private ChildList childStore;
 
 	private boolean needsLayout = true;
+	boolean layoutRequestsSuppressed;
 
 	private Background background;
 
@@ -55,40 +58,65 @@ public abstract class Parent extends Node {
 	 * @since 1.0.0
 	 */
 	protected Parent() {
-		children = new VetoableListDecorator<>(new ObservableListBase<>(new ArrayList<>())) {
+		children = createChildren();
+	}
+
+	private ObservableList<Node> createChildren() {
+		final ChildList store = new ChildList();
+		childStore = store;
+		final ObservableList<Node> list = new VetoableListDecorator<>(new ObservableListBase<>(store)) {
 			@Override
 			protected void onProposedChange(List<Node> toBeAdded, int... toBeRemoved) {
-				final HashSet<Node> childSet = new HashSet<>(children);
-
+				Set<Node> removed = null;
 				for (int i = 0; i < toBeRemoved.length; i += 2) {
 					for (int j = toBeRemoved[i]; j < toBeRemoved[i + 1]; j++) {
-						childSet.remove(children.get(j));
+						if (removed == null) {
+							removed = Collections.newSetFromMap(new IdentityHashMap<>());
+						}
+						removed.add(get(j));
 					}
 				}
 
+				final Set<Node> added = toBeAdded.size() > 1 ? Collections.newSetFromMap(new IdentityHashMap<>()) : null;
 				for (Node node : toBeAdded) {
 					if (node == null) {
 						throw new IllegalArgumentException(createErrorMessage("Child node is null!", null));
 					}
-					if (childSet.contains(node)) {
+					final boolean isChild = node.getParent() == Parent.this && (removed == null || !removed.contains(node));
+					if (isChild || (added != null && !added.add(node))) {
 						throw new IllegalArgumentException(createErrorMessage("Duplicate children detected!", node));
 					}
 					if (wouldCreateCycle(node)) {
 						throw new IllegalArgumentException(createErrorMessage("Cycle detected!", node));
 					}
-					childSet.add(node);
+				}
+
+				// The change is valid and will be applied, so the hierarchy is updated right away.
+				// This guarantees that a node is only ever contained in a single child list.
+				if (removed != null) {
+					for (Node node : removed) {
+						if (node.getParent() == Parent.this) {
+							NodeHelper.setParent(node, null);
+							NodeHelper.setScene(node, null);
+						}
+					}
+				}
+				for (Node node : toBeAdded) {
+					final Parent oldParent = node.getParent();
+					if (oldParent != null) {
+						oldParent.getChildren().remove(node);
+					}
+					NodeHelper.setParent(node, Parent.this);
+					NodeHelper.setScene(node, getScene());
 				}
 			}
 
 			private boolean wouldCreateCycle(Node node) {
-				if (node == Parent.this) {
-					return true;
-				}
-				if (!(node instanceof Parent nodeAsParent)) {
+				if (!(node instanceof Parent)) {
 					return false;
 				}
-				for (Node nodeChild : nodeAsParent.getChildren()) {
-					if (wouldCreateCycle(nodeChild)) {
+				for (Node ancestor = Parent.this; ancestor != null; ancestor = ancestor.getParent()) {
+					if (ancestor == node) {
 						return true;
 					}
 				}
@@ -99,28 +127,11 @@ public abstract class Parent extends Node {
 				return message + " Cannot add " + node + " to " + Parent.this;
 			}
 		};
-		children.addListener(change -> {
-			if (change.wasAdded()) {
-				for (Node child : change.getAddedSubList()) {
-					Parent oldParent = child.getParent();
-					if (oldParent == this) {
-						continue;
-					}
-					if (oldParent != null) {
-						oldParent.getChildren().remove(child);
-					}
-					NodeHelper.setParent(child, this);
-				}
-			}
-			if (change.wasRemoved()) {
-				for (Node child : change.getRemovedSubList()) {
-					if (child.getParent() == this) {
-						NodeHelper.setParent(child, null);
-					}
-				}
-			}
+		list.addListener(change -> {
+			store.markComplete();
 			requestLayout();
 		});
+		return list;
 	}
 
 	/**
@@ -133,6 +144,22 @@ public abstract class Parent extends Node {
 		return children;
 	}
 
+	/**
+	 * Returns an immutable snapshot of the children of this parent.
+	 * <p>
+	 * The snapshot reflects the children after the last completed change. Changes made inside
+	 * a {@link ObservableList#beginChange() transaction} become visible once it ends.
+	 * Taking a snapshot is O(1) and does not lock, so it is safe to call from any thread,
+	 * for example to traverse the hierarchy while rendering asynchronously.
+	 * Each parent publishes its own snapshot, so a traversal over several parents is not atomic.
+	 *
+	 * @return an immutable snapshot of the children
+	 * @since 2.2.0
+	 */
+	public List<Node> getChildrenSnapshot() {
+		return childStore.getSnapshot();
+	}
+
 	/**
 	 * Returns whether this parent is the root of a scene.
 	 *
@@ -144,11 +171,11 @@ public abstract class Parent extends Node {
 	}
 
 	@Override
-	public Node lookup(String selector) {
-		Node result = super.lookup(selector);
+	protected Node findFirst(Selector selector) {
+		Node result = super.findFirst(selector);
 		if (result == null) {
 			for (Node child : children) {
-				result = child.lookup(selector);
+				result = child.findFirst(selector);
 				if (result != null) {
 					return result;
 				}
@@ -165,7 +192,7 @@ public abstract class Parent extends Node {
 	 * done by the Node class implementation.
 	 */
 	@Override
-	protected Set<Node> lookupAll(String selector, Set<Node> results) {
+	protected Set<Node> lookupAll(Selector selector, Set<Node> results) {
 		results = super.lookupAll(selector, results);
 		for (Node child : children) {
 			results = child.lookupAll(selector, results);
@@ -180,8 +207,11 @@ public abstract class Parent extends Node {
 	 * @since 2.0.0
 	 */
 	public void requestLayout() {
+		if (layoutRequestsSuppressed) {
+			return;
+		}
 		needsLayout = true;
-		if (isSceneRoot()) {
+		if (isSceneRoot() && getScene().getGui() != null) {
 			GuiHelper.setDirtyFlag(getScene().getGui(), DirtyFlag.GUI_CONTENT);
 		}
 		requestParentLayout();
@@ -226,6 +256,27 @@ public abstract class Parent extends Node {
 
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The children of this parent are copied as well.
+	 */
+	@Override
+	public Parent copy() {
+		final Parent copy = (Parent) super.copy();
+		copy.children = copy.createChildren();
+		copy.needsLayout = true;
+		copy.layoutRequestsSuppressed = false;
+		copy.performingLayout = false;
+
+		final List<Node> childCopies = new ArrayList<>(children.size());
+		for (Node child : children) {
+			childCopies.add(child.copy());
+		}
+		copy.children.addAll(childCopies);
+		return copy;
+	}
+
 	/**
 	 * Returns the background of this parent.
 	 *
@@ -246,6 +297,32 @@ public abstract class Parent extends Node {
 		this.background = background;
 	}
 
+	/**
+	 * Returns the x coordinate, in the coordinate space of the children,
+	 * that is displayed at the left edge of this parent.
+	 * <p>
+	 * This is 0 for all parents, except for those that scroll their content.
+	 *
+	 * @return the horizontal offset of the children
+	 * @since 2.2.0
+	 */
+	protected int getViewportX() {
+		return 0;
+	}
+
+	/**
+	 * Returns the y coordinate, in the coordinate space of the children,
+	 * that is displayed at the top edge of this parent.
+	 * <p>
+	 * This is 0 for all parents, except for those that scroll their content.
+	 *
+	 * @return the vertical offset of the children
+	 * @since 2.2.0
+	 */
+	protected int getViewportY() {
+		return 0;
+	}
+
 	@Override
 	public Pixel renderPixelAt(int x, int y) {
 		final boolean isInBounds = x >= 0 && y >= 0 && x < getWidth() && y < getHeight();
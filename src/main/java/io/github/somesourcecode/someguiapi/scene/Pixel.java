@@ -23,14 +23,22 @@
 
 package io.github.somesourcecode.someguiapi.scene;
 
+import io.github.somesourcecode.someguiapi.scene.context.DependencyTracker;
 import io.github.somesourcecode.someguiapi.scene.context.PixelRenderContext;
+import io.github.somesourcecode.someguiapi.scene.context.RenderDependency;
 import io.github.somesourcecode.someguiapi.scene.lore.Lore;
+import io.github.somesourcecode.someguiapi.util.ComponentUtil;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.translation.GlobalTranslator;
 import org.bukkit.Material;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.function.Function;
 
 /**
@@ -38,7 +46,7 @@ import java.util.function.Function;
  *
  * @since 2.0.0
  */
-public class Pixel {
+public class Pixel implements Cloneable {
 
 	/**
 	 * Creates an empty pixel. Empty pixels will be rendered as air.
@@ -75,7 +83,13 @@ public class Pixel {
 	private Material material;
 
 	private Component title;
+	private Component compactedTitle;
 	private Function<? super PixelRenderContext, Component> titleFunction;
+	private DependencyTracker titleDependencies;
+	private Component dynamicTitleSource;
+	private Component dynamicTitle;
+	private Component translatedTitleSource;
+	private Map<Locale, Component> translatedTitles;
 	private Lore lore;
 
 	private int index = 1;
@@ -244,7 +258,11 @@ public class Pixel {
 	 */
 	public Pixel setTitle(Component title) {
 		this.title = title;
+		this.compactedTitle = null;
 		this.titleFunction = null;
+		this.titleDependencies = null;
+		this.dynamicTitleSource = null;
+		this.dynamicTitle = null;
 		return this;
 	}
 
@@ -270,7 +288,30 @@ public class Pixel {
 	 */
 	public Pixel setDynamicTitle(Function<? super PixelRenderContext, Component> titleFunction) {
 		this.titleFunction = titleFunction;
+		this.titleDependencies = null;
+		this.dynamicTitleSource = null;
+		this.dynamicTitle = null;
 		this.title = null;
+		this.compactedTitle = null;
+		return this;
+	}
+
+	/**
+	 * Sets the title of this pixel to be generated by the
+	 * specified function during rendering. The function is only called
+	 * again if the version of one of the dependencies has changed since the last render.
+	 * This method overrides the static title.
+	 *
+	 * @param titleFunction the title function
+	 * @param dependencies the dependencies of the title
+	 * @return the pixel for method chaining
+	 * @throws IllegalArgumentException if one of the dependencies is null
+	 * @see RenderDependency
+	 * @since 2.2.0
+	 */
+	public Pixel setDynamicTitle(Function<? super PixelRenderContext, Component> titleFunction, RenderDependency... dependencies) {
+		setDynamicTitle(titleFunction);
+		this.titleDependencies = new DependencyTracker(dependencies);
 		return this;
 	}
 
@@ -352,8 +393,69 @@ public class Pixel {
 		return material == null || material.isAir() || index <= 0;
 	}
 
+	/**
+	 * Creates a copy of this pixel. The title and title function are shared with this pixel.
+	 * The lore is copied, unless it is {@link Lore#freeze() frozen}.
+	 *
+	 * @return the copy of this pixel
+	 * @since 2.2.0
+	 */
+	public Pixel copy() {
+		final Pixel copy;
+		try {
+			copy = (Pixel) super.clone();
+		} catch (CloneNotSupportedException e) {
+			throw new AssertionError(e);
+		}
+		if (titleDependencies != null) {
+			copy.titleDependencies = titleDependencies.copy();
+			copy.dynamicTitleSource = null;
+			copy.dynamicTitle = null;
+		}
+		copy.translatedTitleSource = null;
+		copy.translatedTitles = null;
+		if (lore != null) {
+			copy.lore = lore.copy();
+		}
+		return copy;
+	}
+
+	/**
+	 * Returns whether rendering this pixel keeps state that depends on the render context,
+	 * which is the case for dynamic titles and lores that are not frozen.
+	 * Such pixels must not be rendered by several GUIs at once.
+	 */
+	boolean hasRenderState() {
+		return titleFunction != null || (lore != null && !lore.isFrozen());
+	}
+
+	/**
+	 * Returns the number of bytes that the compaction saved on the serialized title and lore
+	 * of the last rendered item. Titles and lore lines are {@link ComponentUtil#compact(Component) compacted}
+	 * during rendering, and this method measures the {@link ComponentUtil#getSerializedSize(Component) serialized size}
+	 * before and after, so it should only be used for diagnostics.
+	 *
+	 * @return the number of bytes saved
+	 * @since 2.2.0
+	 */
+	public int getBytesSaved() {
+		int saved = 0;
+		if (title != null) {
+			saved += ComponentUtil.getSerializedSize(title) - ComponentUtil.getSerializedSize(compactedTitle);
+		} else if (titleFunction != null) {
+			saved += ComponentUtil.getSerializedSize(dynamicTitleSource) - ComponentUtil.getSerializedSize(dynamicTitle);
+		}
+		if (lore != null) {
+			saved += lore.getBytesSaved();
+		}
+		return saved;
+	}
+
 	/**
 	 * Renders this pixel as an ItemStack.
+	 * The title and the lore are compacted before they are applied to the item.
+	 * If the render context has a {@link PixelRenderContext#getLocale() locale}, they are translated
+	 * with the {@link GlobalTranslator}. The translations are cached for every locale.
 	 *
 	 * @param renderContext the render context
 	 * @return the rendered ItemStack
@@ -363,16 +465,66 @@ public class Pixel {
 		if (isEmpty()) {
 			return null;
 		}
+		return createItemStack(renderTitle(renderContext), renderLore(renderContext));
+	}
+
+	/**
+	 * Renders the title of this pixel.
+	 * This is the compacted static title or the compacted result of the dynamic title,
+	 * translated to the locale of the render context.
+	 *
+	 * @param renderContext the render context
+	 * @return the rendered title, or null if this pixel has no title
+	 * @since 2.2.0
+	 */
+	public Component renderTitle(PixelRenderContext renderContext) {
+		final Locale locale = renderContext == null ? null : renderContext.getLocale();
+		if (title != null) {
+			if (compactedTitle == null) {
+				compactedTitle = ComponentUtil.compact(title);
+			}
+			return translateTitle(compactedTitle, locale);
+		}
+		if (titleFunction != null) {
+			return translateTitle(generateTitle(renderContext), locale);
+		}
+		return null;
+	}
+
+	/**
+	 * Renders the lore lines of this pixel.
+	 *
+	 * @param renderContext the render context
+	 * @return the rendered lore lines, or null if this pixel has no lore
+	 * @since 2.2.0
+	 */
+	public List<Component> renderLore(PixelRenderContext renderContext) {
+		return lore == null ? null : lore.generateLines(renderContext);
+	}
+
+	/**
+	 * Creates the ItemStack of this pixel with an already rendered title and lore.
+	 * This allows callers of {@link #renderTitle(PixelRenderContext)} and
+	 * {@link #renderLore(PixelRenderContext)} to inspect the rendered components
+	 * without rendering them twice.
+	 *
+	 * @param title the rendered title, or null
+	 * @param loreLines the rendered lore lines, or null
+	 * @return the ItemStack, or null if this pixel is empty
+	 * @since 2.2.0
+	 */
+	public ItemStack createItemStack(Component title, List<Component> loreLines) {
+		if (isEmpty()) {
+			return null;
+		}
 
 		ItemStack item = new ItemStack(material);
 
 		if (title != null) {
 			item.editMeta(meta -> meta.displayName(title));
-		} else if (titleFunction != null) {
-			item.editMeta(meta -> meta.displayName(titleFunction.apply(renderContext)));
 		}
-		if (lore != null) {
-			item.lore(lore.generateLines(renderContext));
+		if (loreLines != null) {
+			item.lore(loreLines);
 		}
 
 		if (index > 0) {
@@ -386,4 +538,23 @@ public class Pixel {
 		return item;
 	}
 
+	private Component translateTitle(Component title, Locale locale) {
+		if (title == null || locale == null) {
+			return title;
+		}
+		if (translatedTitles == null || translatedTitleSource != title) {
+			translatedTitleSource = title;
+			translatedTitles = new HashMap<>();
+		}
+		return translatedTitles.computeIfAbsent(locale, key -> ComponentUtil.compact(GlobalTranslator.render(title, key)));
+	}
+
+	private Component generateTitle(PixelRenderContext renderContext) {
+		if (titleDependencies == null || titleDependencies.update(renderContext)) {
+			dynamicTitleSource = titleFunction.apply(renderContext);
+			dynamicTitle = ComponentUtil.compact(dynamicTitleSource);
+		}
+		return dynamicTitle;
+	}
+
 }
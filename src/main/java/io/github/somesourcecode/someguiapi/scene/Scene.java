@@ -69,6 +69,9 @@ public class Scene {
 	private Parent root;
 	private Background background;
 
+	private final NodeIndex idIndex = new NodeIndex();
+	private final NodeIndex styleClassIndex = new NodeIndex();
+
 	private Consumer<? super GuiRenderContext> onRender;
 
 	/**
@@ -164,6 +167,8 @@ public class Scene {
 		int clickedLocalX = clickedNode.getLayoutX();
 		int clickedLocalY = clickedNode.getLayoutY();
 		while (parent != null) {
+			clickedLocalX -= parent.getViewportX();
+			clickedLocalY -= parent.getViewportY();
 			if (clickedLocalX >= 0 && clickedLocalY >= 0 && clickedLocalX < parent.getWidth() && clickedLocalY < parent.getHeight()) {
 				nodeBranch.add(parent);
 			}
@@ -229,6 +234,7 @@ public class Scene {
 	 * @param selector the selector
 	 * @return the first node on the scene graph that matches the selector,
 	 * null if no node matches the selector
+	 * @throws IllegalArgumentException if the selector is malformed
 	 * @see Node#lookup(String)
 	 * @since 2.0.0
 	 */
@@ -239,12 +245,31 @@ public class Scene {
 		return root.lookup(selector);
 	}
 
+	/**
+	 * Looks for any node in the scene that matches the given selector.
+	 * If multiple nodes are found, the first one found is returned.
+	 * If no node is found, null is returned.
+	 *
+	 * @param selector the compiled selector
+	 * @return the first node on the scene graph that matches the selector,
+	 * null if no node matches the selector
+	 * @see Node#lookup(Selector)
+	 * @since 2.2.0
+	 */
+	public Node lookup(Selector selector) {
+		if (root == null) {
+			return null;
+		}
+		return root.lookup(selector);
+	}
+
 	/**
 	 * Looks for all nodes in the scene that match the given selector.
 	 * If no node is found, an empty set is returned.
 	 *
 	 * @param selector the selector
 	 * @return a set of nodes that match the selector. This is always non-null and unmodifiable.
+	 * @throws IllegalArgumentException if the selector is malformed
 	 * @see Node#lookupAll(String)
 	 * @since 2.0.0
 	 */
@@ -255,6 +280,93 @@ public class Scene {
 		return root.lookupAll(selector);
 	}
 
+	/**
+	 * Looks for all nodes in the scene that match the given selector.
+	 * If no node is found, an empty set is returned.
+	 *
+	 * @param selector the compiled selector
+	 * @return a set of nodes that match the selector. This is always non-null and unmodifiable.
+	 * @see Node#lookupAll(Selector)
+	 * @since 2.2.0
+	 */
+	public Set<Node> lookupAll(Selector selector) {
+		if (root == null) {
+			return Collections.emptySet();
+		}
+		return root.lookupAll(selector);
+	}
+
+	/**
+	 * Returns whether lookups with the given selector can use the index of this scene.
+	 */
+	static boolean isIndexed(Selector selector) {
+		return selector.getId() != null || selector.getStyleClasses().length > 0;
+	}
+
+	/**
+	 * Finds the first node in the given subtree that matches the selector, using the index.
+	 */
+	Node lookupIndexed(Selector selector, Node subtree) {
+		final String key = getIndexKey(selector);
+		return getIndex(selector).findFirst(key, selector, subtree);
+	}
+
+	/**
+	 * Finds all nodes in the given subtree that match the selector, using the index.
+	 */
+	Set<Node> lookupAllIndexed(Selector selector, Node subtree, Set<Node> results) {
+		final String key = getIndexKey(selector);
+		return getIndex(selector).findAll(key, selector, subtree, results);
+	}
+
+	private NodeIndex getIndex(Selector selector) {
+		return selector.getId() != null ? idIndex : styleClassIndex;
+	}
+
+	private String getIndexKey(Selector selector) {
+		if (selector.getId() != null) {
+			return selector.getId();
+		}
+		// Use the least common style class to check as few candidates as possible
+		String key = null;
+		int count = Integer.MAX_VALUE;
+		for (String styleClass : selector.getStyleClasses()) {
+			final int classCount = styleClassIndex.count(styleClass);
+			if (classCount < count) {
+				key = styleClass;
+				count = classCount;
+			}
+		}
+		return key;
+	}
+
+	void register(Node node) {
+		idIndex.add(node.getId(), node);
+		for (String styleClass : node.getStyleClassesOrEmpty()) {
+			styleClassIndex.add(styleClass, node);
+		}
+	}
+
+	void unregister(Node node) {
+		idIndex.remove(node.getId(), node);
+		for (String styleClass : node.getStyleClassesOrEmpty()) {
+			styleClassIndex.remove(styleClass, node);
+		}
+	}
+
+	void updateId(Node node, String oldId, String newId) {
+		idIndex.remove(oldId, node);
+		idIndex.add(newId, node);
+	}
+
+	void addStyleClass(Node node, String styleClass) {
+		styleClassIndex.add(styleClass, node);
+	}
+
+	void removeStyleClass(Node node, String styleClass) {
+		styleClassIndex.remove(styleClass, node);
+	}
+
 	/**
 	 * Returns the background of the scene.
 	 *
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.scene;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A compiled selector used to find nodes in the scene graph.
+ * <p>
+ * A selector consists of an optional type, an optional id and any number of style classes,
+ * for example {@code GuiItem#balance.highlighted}. A node matches if it matches every part.
+ * The type is the simple class name of the node, such as {@code GuiItem} or {@code Pane}.
+ * <p>
+ * Compiling a selector parses the string once. Selectors are immutable and can be stored in
+ * constants and reused across lookups. Lookups on a scene use its id and style class index
+ * where possible instead of traversing the whole scene graph.
+ *
+ * @see Node#lookup(Selector)
+ * @see Scene#lookup(Selector)
+ * @since 2.2.0
+ */
+public final class Selector {
+
+	private final String selector;
+	private final String type;
+	private final String id;
+	private final String[] styleClasses;
+
+	private Selector(String selector, String type, String id, String[] styleClasses) {
+		this.selector = selector;
+		this.type = type;
+		this.id = id;
+		this.styleClasses = styleClasses;
+	}
+
+	/**
+	 * Compiles the given selector.
+	 *
+	 * @param selector the selector, for example {@code #my-node} or {@code GuiItem.my-class}
+	 * @return the compiled selector
+	 * @throws IllegalArgumentException if the selector is null or malformed
+	 * @since 2.2.0
+	 */
+	public static Selector compile(String selector) {
+		if (selector == null || selector.isEmpty()) {
+			throw new IllegalArgumentException("Selector cannot be null or empty");
+		}
+
+		String type = null;
+		String id = null;
+		final List<String> styleClasses = new ArrayList<>(1);
+
+		int index = 0;
+		final int length = selector.length();
+		while (index < length) {
+			final char prefix = selector.charAt(index);
+			final int start = prefix == '#' || prefix == '.' ? index + 1 : index;
+			int end = start;
+			while (end < length && selector.charAt(end) != '#' && selector.charAt(end) != '.') {
+				if (Character.isWhitespace(selector.charAt(end))) {
+					throw new IllegalArgumentException("Selector cannot contain whitespace: " + selector);
+				}
+				end++;
+			}
+			if (end == start) {
+				throw new IllegalArgumentException("Selector contains an empty part: " + selector);
+			}
+
+			final String part = selector.substring(start, end);
+			if (prefix == '#') {
+				if (id != null) {
+					throw new IllegalArgumentException("Selector contains multiple ids: " + selector);
+				}
+				id = part;
+			} else if (prefix == '.') {
+				styleClasses.add(part);
+			} else {
+				type = part;
+			}
+			index = end;
+		}
+
+		return new Selector(selector, type, id, styleClasses.toArray(new String[0]));
+	}
+
+	/**
+	 * Returns whether the given node matches this selector.
+	 *
+	 * @param node the node
+	 * @return whether the node matches this selector
+	 * @since 2.2.0
+	 */
+	public boolean matches(Node node) {
+		if (node == null) {
+			return false;
+		}
+		if (id != null && !id.equals(node.getId())) {
+			return false;
+		}
+		for (String styleClass : styleClasses) {
+			if (!node.hasStyleClass(styleClass)) {
+				return false;
+			}
+		}
+		return type == null || type.equals(getTypeName(node.getClass()));
+	}
+
+	String getType() {
+		return type;
+	}
+
+	String getId() {
+		return id;
+	}
+
+	String[] getStyleClasses() {
+		return styleClasses;
+	}
+
+	private static String getTypeName(Class<?> type) {
+		// Anonymous classes have no simple name, so the type of their superclass is used instead
+		while (type.isAnonymousClass()) {
+			type = type.getSuperclass();
+		}
+		return type.getSimpleName();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof Selector other && selector.equals(other.selector);
+	}
+
+	@Override
+	public int hashCode() {
+		return selector.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return selector;
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.scene.context;
+
+import java.util.Objects;
+
+/**
+ * Tracks the versions of a set of {@link RenderDependency render dependencies} between renders.
+ *
+ * @since 2.2.0
+ */
+public final class DependencyTracker {
+
+	private final RenderDependency[] dependencies;
+	private Object[] versions;
+
+	/**
+	 * Constructs a new tracker for the given dependencies.
+	 *
+	 * @param dependencies the dependencies
+	 * @throws IllegalArgumentException if the dependencies or one of them is null
+	 * @since 2.2.0
+	 */
+	public DependencyTracker(RenderDependency... dependencies) {
+		if (dependencies == null) {
+			throw new IllegalArgumentException("Dependencies cannot be null");
+		}
+		for (RenderDependency dependency : dependencies) {
+			if (dependency == null) {
+				throw new IllegalArgumentException("Dependency cannot be null");
+			}
+		}
+		this.dependencies = dependencies.clone();
+	}
+
+	/**
+	 * Updates the versions of the dependencies and returns whether any of them changed
+	 * since the last update. The first update always reports a change.
+	 *
+	 * @param context the render context
+	 * @return whether the content depending on the dependencies has to be generated again
+	 * @since 2.2.0
+	 */
+	public boolean update(PixelRenderContext context) {
+		if (versions == null) {
+			versions = new Object[dependencies.length];
+			for (int i = 0; i < dependencies.length; i++) {
+				versions[i] = dependencies[i].getVersion(context);
+			}
+			return true;
+		}
+		boolean changed = false;
+		for (int i = 0; i < dependencies.length; i++) {
+			final Object version = dependencies[i].getVersion(context);
+			if (!Objects.equals(version, versions[i])) {
+				versions[i] = version;
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Forgets the tracked versions, so the next update reports a change.
+	 *
+	 * @since 2.2.0
+	 */
+	public void invalidate() {
+		versions = null;
+	}
+
+	/**
+	 * Creates a new tracker for the same dependencies that has not tracked any versions yet.
+	 *
+	 * @return the new tracker
+	 * @since 2.2.0
+	 */
+	public DependencyTracker copy() {
+		return new DependencyTracker(dependencies);
+	}
+
+}
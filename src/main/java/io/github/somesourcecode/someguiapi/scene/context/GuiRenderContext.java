@@ -28,6 +28,7 @@ import io.github.somesourcecode.someguiapi.scene.Scene;
 import io.github.somesourcecode.someguiapi.scene.gui.Gui;
 
 import java.util.HashMap;
+import java.util.Locale;
 
 /**
  * The context for a GUI render cycle.
@@ -51,6 +52,19 @@ public class GuiRenderContext extends RenderContext implements Cancelable {
 		super(gui, scene);
 	}
 
+	/**
+	 * Constructs a new render context for the specified locale.
+	 *
+	 * @param gui    the GUI
+	 * @param scene  the scene
+	 * @param locale the locale, or null
+	 * @since 2.2.0
+	 */
+	public GuiRenderContext(Gui gui, Scene scene, Locale locale) {
+		super(gui, scene);
+		this.locale = locale;
+	}
+
 	/**
 	 * Sets a render override for a slot. This will override the pixel
 	 * that would be rendered at the specified slot.
@@ -148,6 +162,11 @@ public class GuiRenderContext extends RenderContext implements Cancelable {
 	public PixelRenderContext copyForPixel(int slotX, int slotY) {
 		PixelRenderContext context = new PixelRenderContext(getGui(), getScene(), slotX, slotY);
 		context.renderStart = renderStart;
+		context.locale = locale;
+		if (resolvedPlaceholders == null) {
+			resolvedPlaceholders = new HashMap<>();
+		}
+		context.resolvedPlaceholders = resolvedPlaceholders;
 		return context;
 	}
 
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.scene.context;
+
+import org.bukkit.entity.HumanEntity;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A value that is resolved for a viewer during rendering, such as the balance or the rank of a player.
+ * <p>
+ * Placeholders are resolved with {@link RenderContext#resolve(Placeholder)}. Every render context of a render
+ * cycle shares the resolved values, so a placeholder is resolved at most once per render and viewer, no matter
+ * how many dynamic titles and context paragraphs use it. Placeholders with a time to live additionally cache their
+ * values across renders until they expire. Placeholders are usually stored in constants:
+ * <pre>{@code
+ * public static final Placeholder<Double> BALANCE = Placeholder.of("balance", Duration.ofSeconds(5),
+ *         viewer -> economy.getBalance(viewer.getUniqueId()));
+ *
+ * pixel.setDynamicTitle(context -> Component.text("Balance: " + context.resolve(BALANCE)));
+ * }</pre>
+ *
+ * @param <T> the type of the value
+ * @since 2.2.0
+ */
+public final class Placeholder<T> {
+
+	private static final int MIN_PRUNE_THRESHOLD = 16;
+
+	private final String name;
+	private final PlaceholderProvider<? extends T> provider;
+	private final long timeToLive;
+
+	private final Map<UUID, CachedValue<T>> cachedValues = new HashMap<>();
+	private int pruneThreshold = MIN_PRUNE_THRESHOLD;
+
+	private Placeholder(String name, PlaceholderProvider<? extends T> provider, long timeToLive) {
+		this.name = name;
+		this.provider = provider;
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Creates a placeholder whose values are only memoized for a single render.
+	 *
+	 * @param name the name of the placeholder
+	 * @param provider the provider of the values
+	 * @return the placeholder
+	 * @param <T> the type of the value
+	 * @throws IllegalArgumentException if the name or the provider is null
+	 * @since 2.2.0
+	 */
+	public static <T> Placeholder<T> of(String name, PlaceholderProvider<? extends T> provider) {
+		return of(name, Duration.ZERO, provider);
+	}
+
+	/**
+	 * Creates a placeholder whose values are cached across renders for the specified duration.
+	 *
+	 * @param name the name of the placeholder
+	 * @param timeToLive how long a value is cached, or {@link Duration#ZERO} to only memoize it for a single render
+	 * @param provider the provider of the values
+	 * @return the placeholder
+	 * @param <T> the type of the value
+	 * @throws IllegalArgumentException if an argument is null or the time to live is negative
+	 * @since 2.2.0
+	 */
+	public static <T> Placeholder<T> of(String name, Duration timeToLive, PlaceholderProvider<? extends T> provider) {
+		if (name == null) {
+			throw new IllegalArgumentException("Name cannot be null");
+		}
+		if (provider == null) {
+			throw new IllegalArgumentException("Provider cannot be null");
+		}
+		if (timeToLive == null || timeToLive.isNegative()) {
+			throw new IllegalArgumentException("Time to live cannot be null or negative");
+		}
+		return new Placeholder<>(name, provider, timeToLive.toMillis());
+	}
+
+	/**
+	 * Returns the name of this placeholder.
+	 *
+	 * @return the name
+	 * @since 2.2.0
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns how long the values of this placeholder are cached across renders.
+	 *
+	 * @return the time to live
+	 * @since 2.2.0
+	 */
+	public Duration getTimeToLive() {
+		return Duration.ofMillis(timeToLive);
+	}
+
+	/**
+	 * Resolves the value of this placeholder for the specified viewer.
+	 * Outside of rendering, this uses the cached value if it has not expired yet.
+	 * Prefer {@link RenderContext#resolve(Placeholder, HumanEntity)} during rendering.
+	 *
+	 * @param viewer the viewer, or null
+	 * @return the value
+	 * @since 2.2.0
+	 */
+	public T resolve(HumanEntity viewer) {
+		if (timeToLive <= 0) {
+			return provider.provide(viewer);
+		}
+
+		final UUID viewerId = viewer == null ? null : viewer.getUniqueId();
+		final long now = System.currentTimeMillis();
+		synchronized (cachedValues) {
+			final CachedValue<T> cachedValue = cachedValues.get(viewerId);
+			if (cachedValue != null && cachedValue.expiry > now) {
+				return cachedValue.value;
+			}
+		}
+
+		final T value = provider.provide(viewer);
+		synchronized (cachedValues) {
+			if (cachedValues.size() >= pruneThreshold) {
+				cachedValues.values().removeIf(cachedValue -> cachedValue.expiry <= now);
+				pruneThreshold = Math.max(MIN_PRUNE_THRESHOLD, cachedValues.size() * 2);
+			}
+			cachedValues.put(viewerId, new CachedValue<>(value, now + timeToLive));
+		}
+		return value;
+	}
+
+	/**
+	 * Removes the cached values of all viewers, so they are provided again on the next render.
+	 *
+	 * @since 2.2.0
+	 */
+	public void invalidate() {
+		synchronized (cachedValues) {
+			cachedValues.clear();
+		}
+	}
+
+	/**
+	 * Removes the cached value of the specified viewer, so it is provided again on the next render.
+	 *
+	 * @param viewer the viewer, or null
+	 * @since 2.2.0
+	 */
+	public void invalidate(HumanEntity viewer) {
+		synchronized (cachedValues) {
+			cachedValues.remove(viewer == null ? null : viewer.getUniqueId());
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "Placeholder{" + name + "}";
+	}
+
+	private record CachedValue<T>(T value, long expiry) {
+
+	}
+
+}
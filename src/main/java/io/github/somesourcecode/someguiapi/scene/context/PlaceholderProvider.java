@@ -0,0 +1,47 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.scene.context;
+
+import org.bukkit.entity.HumanEntity;
+
+/**
+ * Provides the value of a {@link Placeholder} for a viewer.
+ * Providers may be expensive, as the values are memoized for every render.
+ *
+ * @param <T> the type of the value
+ * @since 2.2.0
+ */
+@FunctionalInterface
+public interface PlaceholderProvider<T> {
+
+	/**
+	 * Provides the value for the specified viewer.
+	 *
+	 * @param viewer the viewer, or null if the GUI is not viewed by anyone
+	 * @return the value
+	 * @since 2.2.0
+	 */
+	T provide(HumanEntity viewer);
+
+}
@@ -25,6 +25,12 @@ package io.github.somesourcecode.someguiapi.scene.context;
 
 import io.github.somesourcecode.someguiapi.scene.Scene;
 import io.github.somesourcecode.someguiapi.scene.gui.Gui;
+import org.bukkit.entity.HumanEntity;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * The context for a GUI render cycle.
@@ -34,6 +40,8 @@ import io.github.somesourcecode.someguiapi.scene.gui.Gui;
 public class RenderContext extends GuiContext {
 
 	protected long renderStart;
+	protected Locale locale;
+	Map<ResolvedKey, Object> resolvedPlaceholders;
 
 	/**
 	 * Constructs a new render context.
@@ -68,4 +76,62 @@ public class RenderContext extends GuiContext {
 		return System.currentTimeMillis() - renderStart;
 	}
 
+	/**
+	 * Returns the locale the GUI is rendered for. Titles and lore are translated
+	 * to this locale with the {@link net.kyori.adventure.translation.GlobalTranslator}.
+	 * The locale is null if the GUI is not rendered separately for each locale.
+	 *
+	 * @return the locale, or null
+	 * @since 2.2.0
+	 */
+	public Locale getLocale() {
+		return locale;
+	}
+
+	/**
+	 * Resolves a placeholder for the first viewer of the GUI.
+	 * This is a shortcut for {@link #resolve(Placeholder, HumanEntity)} with {@link Gui#getViewer()}.
+	 *
+	 * @param placeholder the placeholder
+	 * @return the value of the placeholder
+	 * @param <T> the type of the value
+	 * @since 2.2.0
+	 */
+	public <T> T resolve(Placeholder<T> placeholder) {
+		return resolve(placeholder, getGui() == null ? null : getGui().getViewer());
+	}
+
+	/**
+	 * Resolves a placeholder for the specified viewer. The value is memoized for the render cycle,
+	 * which is shared by the GUI render context and the pixel render contexts copied from it.
+	 * Every placeholder is therefore resolved at most once per render and viewer.
+	 *
+	 * @param placeholder the placeholder
+	 * @param viewer the viewer, or null
+	 * @return the value of the placeholder
+	 * @param <T> the type of the value
+	 * @throws IllegalArgumentException if the placeholder is null
+	 * @since 2.2.0
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T resolve(Placeholder<T> placeholder, HumanEntity viewer) {
+		if (placeholder == null) {
+			throw new IllegalArgumentException("Placeholder cannot be null");
+		}
+		if (resolvedPlaceholders == null) {
+			resolvedPlaceholders = new HashMap<>();
+		}
+		final ResolvedKey key = new ResolvedKey(placeholder, viewer == null ? null : viewer.getUniqueId());
+		if (resolvedPlaceholders.containsKey(key)) {
+			return (T) resolvedPlaceholders.get(key);
+		}
+		final T value = placeholder.resolve(viewer);
+		resolvedPlaceholders.put(key, value);
+		return value;
+	}
+
+	record ResolvedKey(Placeholder<?> placeholder, UUID viewer) {
+
+	}
+
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.scene.context;
+
+import io.github.somesourcecode.someguiapi.scene.storage.AbstractStorageKey;
+import org.bukkit.entity.HumanEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * A dependency of content that is generated during rendering, such as a context paragraph or a dynamic title.
+ * <p>
+ * A dependency returns a version for the current render context. As long as the versions of all
+ * dependencies are equal to the ones of the previous render, the previously generated content is reused.
+ *
+ * @see DependencyTracker
+ * @since 2.2.0
+ */
+@FunctionalInterface
+public interface RenderDependency {
+
+	/**
+	 * Returns the current version of this dependency. Versions are compared using {@link Object#equals(Object)}.
+	 *
+	 * @param context the render context
+	 * @return the current version
+	 * @since 2.2.0
+	 */
+	Object getVersion(PixelRenderContext context);
+
+	/**
+	 * Returns a dependency on the value registered with the given id in the storage of the scene.
+	 *
+	 * @param id the id of the value
+	 * @return the dependency
+	 * @see io.github.somesourcecode.someguiapi.scene.storage.Storage#getVersion(String)
+	 * @since 2.2.0
+	 */
+	static RenderDependency storage(String id) {
+		return context -> context.getScene() == null ? null : context.getScene().getStorage().getVersion(id);
+	}
+
+	/**
+	 * Returns a dependency on the value of the given key in the storage of the scene.
+	 *
+	 * @param key the key of the value
+	 * @return the dependency
+	 * @throws IllegalArgumentException if the key is null
+	 * @see io.github.somesourcecode.someguiapi.scene.storage.Storage#getVersion(AbstractStorageKey)
+	 * @since 2.2.0
+	 */
+	static RenderDependency storage(AbstractStorageKey key) {
+		if (key == null) {
+			throw new IllegalArgumentException("Key cannot be null");
+		}
+		return context -> context.getScene() == null ? null : context.getScene().getStorage().getVersion(key);
+	}
+
+	/**
+	 * Returns a dependency on the viewers of the GUI. The version changes whenever a viewer opens or closes the GUI.
+	 *
+	 * @return the dependency
+	 * @since 2.2.0
+	 */
+	static RenderDependency viewers() {
+		return context -> {
+			if (context.getGui() == null) {
+				return null;
+			}
+			final List<HumanEntity> viewers = context.getGui().getViewers();
+			final List<UUID> ids = new ArrayList<>(viewers.size());
+			for (HumanEntity viewer : viewers) {
+				ids.add(viewer.getUniqueId());
+			}
+			return ids;
+		};
+	}
+
+	/**
+	 * Returns a dependency on the slot that is rendered.
+	 * This is needed if the same content is rendered in multiple slots and depends on the slot.
+	 *
+	 * @return the dependency
+	 * @since 2.2.0
+	 */
+	static RenderDependency slot() {
+		return context -> ((long) context.getSlotX() << 32) | (context.getSlotY() & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Returns a dependency on the value of a placeholder for the first viewer of the GUI.
+	 * The placeholder is {@link RenderContext#resolve(Placeholder) resolved} through the render context,
+	 * so the value is shared with the content that uses it.
+	 *
+	 * @param placeholder the placeholder
+	 * @return the dependency
+	 * @throws IllegalArgumentException if the placeholder is null
+	 * @since 2.2.0
+	 */
+	static RenderDependency placeholder(Placeholder<?> placeholder) {
+		if (placeholder == null) {
+			throw new IllegalArgumentException("Placeholder cannot be null");
+		}
+		return context -> context.resolve(placeholder);
+	}
+
+	/**
+	 * Returns a dependency whose version is provided by the given supplier.
+	 *
+	 * @param versionSupplier the supplier of the version
+	 * @return the dependency
+	 * @throws IllegalArgumentException if the supplier is null
+	 * @since 2.2.0
+	 */
+	static RenderDependency of(Supplier<?> versionSupplier) {
+		if (versionSupplier == null) {
+			throw new IllegalArgumentException("Version supplier cannot be null");
+		}
+		return context -> versionSupplier.get();
+	}
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.scene.declarative;
+
+import io.github.somesourcecode.someguiapi.scene.GuiItem;
+import io.github.somesourcecode.someguiapi.scene.Node;
+import io.github.somesourcecode.someguiapi.scene.layout.Pane;
+import org.bukkit.Material;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A lightweight description of a node, its properties and its children.
+ * <p>
+ * Descriptions are cheap to create and are meant to be rebuilt from the state
+ * on every update. A {@link Reconciler} compares them with the previous description
+ * and applies only the differences to the actual scene graph.
+ * <p>
+ * Children can be given a key. Keyed children keep their node across updates, even if
+ * they move to a different position. Children without a key are matched by their position
+ * among the unkeyed children of the same type.
+ *
+ * @param <N> the type of the described node
+ * @since 2.2.0
+ */
+public final class NodeDescription<N extends Node> {
+
+	/**
+	 * Creates a description of a {@link GuiItem} with the specified material.
+	 *
+	 * @param material the material of the item
+	 * @return the description
+	 * @since 2.2.0
+	 */
+	public static NodeDescription<GuiItem> item(Material material) {
+		return of(GuiItem.class, GuiItem::new).with(NodeProperty.MATERIAL, material);
+	}
+
+	/**
+	 * Creates a description of a {@link Pane} with the specified children.
+	 *
+	 * @param children the children of the pane
+	 * @return the description
+	 * @since 2.2.0
+	 */
+	public static NodeDescription<Pane> pane(NodeDescription<?>... children) {
+		return of(Pane.class, Pane::new).children(children);
+	}
+
+	/**
+	 * Creates a description of a node of the specified type.
+	 * <p>
+	 * Nodes are only reused for descriptions of the exact same type.
+	 *
+	 * @param type the type of the node
+	 * @param factory the factory that creates a new node of the type
+	 * @param <N> the type of the node
+	 * @return the description
+	 * @since 2.2.0
+	 */
+	public static <N extends Node> NodeDescription<N> of(Class<N> type, Supplier<? extends N> factory) {
+		return new NodeDescription<>(type, factory);
+	}
+
+	private final Class<N> type;
+	private final Supplier<? extends N> factory;
+	private final Map<NodeProperty<? super N, ?>, Object> properties = new LinkedHashMap<>();
+	private final List<NodeDescription<?>> children = new ArrayList<>();
+	private Object key;
+
+	private NodeDescription(Class<N> type, Supplier<? extends N> factory) {
+		if (type == null) {
+			throw new IllegalArgumentException("Type cannot be null");
+		}
+		if (factory == null) {
+			throw new IllegalArgumentException("Factory cannot be null");
+		}
+		this.type = type;
+		this.factory = factory;
+	}
+
+	/**
+	 * Sets the value of the specified property.
+	 *
+	 * @param property the property
+	 * @param value the value
+	 * @param <V> the type of the value
+	 * @return this description
+	 * @since 2.2.0
+	 */
+	public <V> NodeDescription<N> with(NodeProperty<? super N, V> property, V value) {
+		if (property == null) {
+			throw new IllegalArgumentException("Property cannot be null");
+		}
+		properties.put(property, value);
+		return this;
+	}
+
+	/**
+	 * Sets the key of this description.
+	 * <p>
+	 * The key has to be unique among the siblings of the node.
+	 *
+	 * @param key the key, or null to match by position
+	 * @return this description
+	 * @since 2.2.0
+	 */
+	public NodeDescription<N> key(Object key) {
+		this.key = key;
+		return this;
+	}
+
+	/**
+	 * Appends the specified children to this description.
+	 * <p>
+	 * Only descriptions of {@link Pane}s can have children.
+	 *
+	 * @param children the children
+	 * @return this description
+	 * @since 2.2.0
+	 */
+	public NodeDescription<N> children(NodeDescription<?>... children) {
+		return children(Arrays.asList(children));
+	}
+
+	/**
+	 * Appends the specified children to this description.
+	 * <p>
+	 * Only descriptions of {@link Pane}s can have children.
+	 *
+	 * @param children the children
+	 * @return this description
+	 * @since 2.2.0
+	 */
+	public NodeDescription<N> children(List<? extends NodeDescription<?>> children) {
+		if (!Pane.class.isAssignableFrom(type)) {
+			throw new IllegalStateException("Only panes can have children, but " + type.getName() + " is not a pane");
+		}
+		for (NodeDescription<?> child : children) {
+			if (child == null) {
+				throw new IllegalArgumentException("Child description cannot be null");
+			}
+			this.children.add(child);
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the type of the described node.
+	 *
+	 * @return the type
+	 * @since 2.2.0
+	 */
+	public Class<N> getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the key of this description.
+	 *
+	 * @return the key, or null if this description is not keyed
+	 * @since 2.2.0
+	 */
+	public Object getKey() {
+		return key;
+	}
+
+	/**
+	 * Returns an unmodifiable view of the children of this description.
+	 *
+	 * @return the children
+	 * @since 2.2.0
+	 */
+	public List<NodeDescription<?>> getChildren() {
+		return Collections.unmodifiableList(children);
+	}
+
+	Map<NodeProperty<? super N, ?>, Object> getProperties() {
+		return properties;
+	}
+
+	N createNode() {
+		N node = factory.get();
+		if (node == null || node.getClass() != type) {
+			throw new IllegalStateException("Factory of " + type.getName() + " created " + node);
+		}
+		return node;
+	}
+
+	boolean canReuse(NodeDescription<?> other) {
+		return type == other.type && Objects.equals(key, other.key);
+	}
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.scene.declarative;
+
+import io.github.somesourcecode.someguiapi.scene.Background;
+import io.github.somesourcecode.someguiapi.scene.GuiItem;
+import io.github.somesourcecode.someguiapi.scene.Node;
+import io.github.somesourcecode.someguiapi.scene.Parent;
+import io.github.somesourcecode.someguiapi.scene.context.NodeClickContext;
+import io.github.somesourcecode.someguiapi.scene.context.PixelRenderContext;
+import io.github.somesourcecode.someguiapi.scene.layout.Region;
+import io.github.somesourcecode.someguiapi.scene.lore.Lore;
+import io.github.somesourcecode.someguiapi.scene.util.Insets;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A property of a node that can be set by a {@link NodeDescription}.
+ * <p>
+ * Properties are compared by identity, so they should be declared once as constants.
+ * Properties that affect how a node is displayed, but are not picked up by the system
+ * (e.g. the lore of an item), are marked as {@code affectsRender}. When such a property
+ * changes during reconciliation, a render of the slots covered by the node is requested.
+ *
+ * @param <N> the type of the node
+ * @param <V> the type of the value
+ * @since 2.2.0
+ */
+public final class NodeProperty<N extends Node, V> {
+
+	public static final NodeProperty<Node, String> ID = of("id", Node::setId, null, false);
+	public static final NodeProperty<Node, Integer> LAYOUT_X = of("layoutX", Node::setLayoutX, 0, false);
+	public static final NodeProperty<Node, Integer> LAYOUT_Y = of("layoutY", Node::setLayoutY, 0, false);
+	public static final NodeProperty<Node, Integer> TRANSLATE_X = of("translateX", Node::setTranslateX, 0, false);
+	public static final NodeProperty<Node, Integer> TRANSLATE_Y = of("translateY", Node::setTranslateY, 0, false);
+	public static final NodeProperty<Node, Boolean> VISIBLE = of("visible", Node::setVisible, true, true);
+	public static final NodeProperty<Node, Boolean> CLIPPING = of("clipping", Node::setClipping, true, true);
+	public static final NodeProperty<Node, Consumer<? super NodeClickContext>> ON_CLICK = of("onClick", Node::setOnClick, null, false);
+	public static final NodeProperty<Node, Consumer<? super NodeClickContext>> ON_LEFT_CLICK = of("onLeftClick", Node::setOnLeftClick, null, false);
+	public static final NodeProperty<Node, Consumer<? super NodeClickContext>> ON_RIGHT_CLICK = of("onRightClick", Node::setOnRightClick, null, false);
+	public static final NodeProperty<Node, Consumer<? super NodeClickContext>> ON_SHIFT_CLICK = of("onShiftClick", Node::setOnShiftClick, null, false);
+	public static final NodeProperty<Node, Consumer<? super NodeClickContext>> ON_HOT_BAR_CLICK = of("onHotBarClick", Node::setOnHotBarClick, null, false);
+
+	public static final NodeProperty<Parent, Background> BACKGROUND = of("background", Parent::setBackground, null, true);
+
+	public static final NodeProperty<Region, Integer> WIDTH = of("width", Region::setWidth, 0, false);
+	public static final NodeProperty<Region, Integer> HEIGHT = of("height", Region::setHeight, 0, false);
+	public static final NodeProperty<Region, Insets> PADDING = of("padding", Region::setPadding, null, false);
+
+	public static final NodeProperty<GuiItem, Material> MATERIAL = of("material", GuiItem::setMaterial, Material.AIR, true);
+	public static final NodeProperty<GuiItem, Component> TITLE = of("title", GuiItem::setTitle, null, true);
+	public static final NodeProperty<GuiItem, Function<? super PixelRenderContext, Component>> DYNAMIC_TITLE = of("dynamicTitle", GuiItem::setDynamicTitle, null, true);
+	public static final NodeProperty<GuiItem, Lore> LORE = of("lore", GuiItem::setLore, null, true);
+	public static final NodeProperty<GuiItem, Integer> INDEX = of("index", GuiItem::setIndex, 1, true);
+	public static final NodeProperty<GuiItem, Boolean> GLOW = of("glow", GuiItem::setGlow, false, true);
+
+	/**
+	 * Creates a new property.
+	 *
+	 * @param name the name of the property, used for debugging
+	 * @param setter the function that applies a value to a node
+	 * @param defaultValue the value that is applied when a description no longer sets the property
+	 * @param affectsRender whether a change of the property requires the node to be rendered again
+	 * @param <N> the type of the node
+	 * @param <V> the type of the value
+	 * @return the property
+	 * @since 2.2.0
+	 */
+	public static <N extends Node, V> NodeProperty<N, V> of(String name, BiConsumer<? super N, ? super V> setter, V defaultValue, boolean affectsRender) {
+		return new NodeProperty<>(name, setter, defaultValue, affectsRender);
+	}
+
+	private final String name;
+	private final BiConsumer<? super N, ? super V> setter;
+	private final V defaultValue;
+	private final boolean affectsRender;
+
+	private NodeProperty(String name, BiConsumer<? super N, ? super V> setter, V defaultValue, boolean affectsRender) {
+		if (setter == null) {
+			throw new IllegalArgumentException("Setter cannot be null");
+		}
+		this.name = name;
+		this.setter = setter;
+		this.defaultValue = defaultValue;
+		this.affectsRender = affectsRender;
+	}
+
+	/**
+	 * Returns the name of this property.
+	 *
+	 * @return the name
+	 * @since 2.2.0
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the value that is applied when a description no longer sets this property.
+	 *
+	 * @return the default value
+	 * @since 2.2.0
+	 */
+	public V getDefaultValue() {
+		return defaultValue;
+	}
+
+	/**
+	 * Returns whether a change of this property requires the node to be rendered again.
+	 *
+	 * @return whether this property affects rendering
+	 * @since 2.2.0
+	 */
+	public boolean affectsRender() {
+		return affectsRender;
+	}
+
+	/**
+	 * Applies the specified value to the specified node.
+	 *
+	 * @param node the node
+	 * @param value the value
+	 * @since 2.2.0
+	 */
+	public void apply(N node, V value) {
+		setter.accept(node, value);
+	}
+
+	@Override
+	public String toString() {
+		return "NodeProperty[" + name + "]";
+	}
+
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.scene.declarative;
+
+import io.github.somesourcecode.someguiapi.collections.ObservableList;
+import io.github.somesourcecode.someguiapi.scene.Node;
+import io.github.somesourcecode.someguiapi.scene.NodeHelper;
+import io.github.somesourcecode.someguiapi.scene.Parent;
+import io.github.somesourcecode.someguiapi.scene.Scene;
+import io.github.somesourcecode.someguiapi.scene.layout.Pane;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Keeps a scene graph in sync with a declarative view of some state.
+ * <p>
+ * On every {@link #update(Object)}, the view function builds a new {@link NodeDescription}
+ * tree from the state. The reconciler compares it with the previously applied tree and only
+ * touches the nodes whose properties or children actually changed:
+ * <ul>
+ *     <li>nodes are reused if the type and key of their description match,</li>
+ *     <li>only changed properties are set again, removed properties are reset to their default,</li>
+ *     <li>child lists are patched by removing the dropped children and inserting the new ones,
+ *     the retained children are reordered in place without being detached from the scene.</li>
+ * </ul>
+ * A plain {@link Pane} does not arrange its children, so patching its children does not request a layout.
+ * Only the slots of the removed and inserted children, and of the children that changed their
+ * order relative to the others, are rendered again.
+ * Property changes that only affect how a node looks request a render of the slots
+ * covered by that node instead of a full render. Call {@link io.github.somesourcecode.someguiapi.scene.gui.Gui#update()}
+ * afterward to send the changes to the viewers.
+ * <p>
+ * The nodes created by a reconciler are owned by it. Modifying them directly may be overwritten
+ * by the next update.
+ *
+ * @param <S> the type of the state
+ * @since 2.2.0
+ */
+public class Reconciler<S> {
+
+	private final Function<? super S, ? extends NodeDescription<? extends Parent>> view;
+	private final Scene scene;
+
+	private Instance root;
+
+	/**
+	 * Constructs a new reconciler that is not bound to a scene.
+	 * The root node can be obtained with {@link #getRoot()}.
+	 *
+	 * @param view the function that describes the scene graph for a state
+	 * @since 2.2.0
+	 */
+	public Reconciler(Function<? super S, ? extends NodeDescription<? extends Parent>> view) {
+		this(null, view);
+	}
+
+	/**
+	 * Constructs a new reconciler that sets the root of the specified scene.
+	 *
+	 * @param scene the scene, or null
+	 * @param view the function that describes the scene graph for a state
+	 * @since 2.2.0
+	 */
+	public Reconciler(Scene scene, Function<? super S, ? extends NodeDescription<? extends Parent>> view) {
+		if (view == null) {
+			throw new IllegalArgumentException("View cannot be null");
+		}
+		this.scene = scene;
+		this.view = view;
+	}
+
+	/**
+	 * Returns the root node that was built by the last update.
+	 *
+	 * @return the root node, or null if the reconciler was never updated
+	 * @since 2.2.0
+	 */
+	public Parent getRoot() {
+		return root == null ? null : (Parent) root.node;
+	}
+
+	/**
+	 * Describes the scene graph for the specified state and applies
+	 * the differences to the nodes built by the previous update.
+	 *
+	 * @param state the state
+	 * @return the root node
+	 * @since 2.2.0
+	 */
+	public Parent update(S state) {
+		NodeDescription<? extends Parent> description = view.apply(state);
+		if (description == null) {
+			throw new IllegalStateException("View returned no description");
+		}
+		Instance newRoot = reconcile(root, description);
+		if (newRoot != root) {
+			root = newRoot;
+			if (scene != null) {
+				scene.setRoot((Parent) newRoot.node);
+			}
+		}
+		return (Parent) newRoot.node;
+	}
+
+	private Instance reconcile(Instance instance, NodeDescription<?> description) {
+		if (instance == null || !instance.description.canReuse(description)) {
+			instance = new Instance(description.createNode());
+			applyProperties(instance.node, Collections.emptyMap(), description.getProperties(), true);
+		} else {
+			applyProperties(instance.node, instance.description.getProperties(), description.getProperties(), false);
+		}
+		reconcileChildren(instance, description);
+		instance.description = description;
+		return instance;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private void applyProperties(Node node, Map<? extends NodeProperty<?, ?>, Object> oldProperties, Map<? extends NodeProperty<?, ?>, Object> newProperties, boolean created) {
+		boolean render = false;
+		for (Map.Entry<? extends NodeProperty<?, ?>, Object> entry : newProperties.entrySet()) {
+			NodeProperty property = entry.getKey();
+			Object value = entry.getValue();
+			if (!created && oldProperties.containsKey(property) && Objects.equals(oldProperties.get(property), value)) {
+				continue;
+			}
+			property.apply(node, value);
+			render |= property.affectsRender();
+		}
+		for (NodeProperty property : oldProperties.keySet()) {
+			if (newProperties.containsKey(property)) {
+				continue;
+			}
+			property.apply(node, property.getDefaultValue());
+			render |= property.affectsRender();
+		}
+		if (render && !created) {
+			node.requestRender();
+		}
+	}
+
+	private void reconcileChildren(Instance instance, NodeDescription<?> description) {
+		List<NodeDescription<?>> descriptions = description.getChildren();
+		if (descriptions.isEmpty() && instance.children.isEmpty()) {
+			return;
+		}
+
+		final Map<Object, Instance> keyed = new HashMap<>();
+		final Map<Class<?>, ArrayDeque<Instance>> unkeyed = new HashMap<>();
+		for (Instance child : instance.children) {
+			Object key = child.description.getKey();
+			if (key != null) {
+				keyed.put(key, child);
+			} else {
+				unkeyed.computeIfAbsent(child.description.getType(), type -> new ArrayDeque<>()).add(child);
+			}
+		}
+
+		final List<Instance> newChildren = new ArrayList<>(descriptions.size());
+		final Set<Object> seenKeys = new HashSet<>();
+		for (NodeDescription<?> childDescription : descriptions) {
+			Object key = childDescription.getKey();
+			Instance match;
+			if (key != null) {
+				if (!seenKeys.add(key)) {
+					throw new IllegalStateException("Duplicate key " + key + " among the children of " + instance.node);
+				}
+				match = keyed.remove(key);
+			} else {
+				ArrayDeque<Instance> candidates = unkeyed.get(childDescription.getType());
+				match = candidates == null ? null : candidates.poll();
+			}
+			newChildren.add(reconcile(match, childDescription));
+		}
+
+		patchChildren((Pane) instance.node, newChildren);
+		instance.children = newChildren;
+	}
+
+	private void patchChildren(Pane pane, List<Instance> newChildren) {
+		final ObservableList<Node> children = pane.getChildren();
+		final boolean renderOnly = pane.getClass() == Pane.class;
+		if (renderOnly) {
+			NodeHelper.setLayoutRequestsSuppressed(pane, true);
+		}
+		children.beginChange();
+		try {
+			patchChildren(children, newChildren, renderOnly);
+		} finally {
+			children.endChange();
+			if (renderOnly) {
+				NodeHelper.setLayoutRequestsSuppressed(pane, false);
+			}
+		}
+	}
+
+	private void patchChildren(ObservableList<Node> children, List<Instance> newChildren, boolean renderOnly) {
+		final Map<Node, Integer> targetIndices = new IdentityHashMap<>();
+		for (int i = 0; i < newChildren.size(); i++) {
+			targetIndices.put(newChildren.get(i).node, i);
+		}
+
+		// Remove the dropped children back to front, so the indices stay valid
+		for (int i = children.size() - 1; i >= 0; i--) {
+			Node child = children.get(i);
+			if (!targetIndices.containsKey(child)) {
+				if (renderOnly) {
+					child.requestRender();
+				}
+				children.remove(i);
+			}
+		}
+
+		// The retained children that are not part of the longest ordered run change their position
+		final List<Integer> targets = new ArrayList<>(children.size());
+		final Set<Node> retained = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Node child : children) {
+			targets.add(targetIndices.get(child));
+			retained.add(child);
+		}
+		final boolean[] stable = longestIncreasingSubsequence(targets);
+		final List<Node> changed = new ArrayList<>();
+		for (int i = 0; i < stable.length; i++) {
+			if (!stable[i]) {
+				changed.add(children.get(i));
+			}
+		}
+
+		final List<Node> inserted = new ArrayList<>();
+		for (Instance child : newChildren) {
+			if (!retained.contains(child.node)) {
+				inserted.add(child.node);
+			}
+		}
+		children.addAll(inserted);
+		children.sort(Comparator.comparingInt(targetIndices::get));
+
+		if (renderOnly) {
+			for (Node node : inserted) {
+				if (node instanceof Parent parent) {
+					parent.layout();
+				}
+				node.requestRender();
+			}
+			for (Node node : changed) {
+				node.requestRender();
+			}
+		}
+	}
+
+	/**
+	 * Marks the elements of the longest strictly increasing subsequence of the given values.
+	 */
+	private static boolean[] longestIncreasingSubsequence(List<Integer> values) {
+		final int size = values.size();
+		final int[] tails = new int[size];
+		final int[] previous = new int[size];
+		int length = 0;
+		for (int i = 0; i < size; i++) {
+			int value = values.get(i);
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (values.get(tails[middle]) < value) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			previous[i] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = i;
+			if (low == length) {
+				length++;
+			}
+		}
+		final boolean[] result = new boolean[size];
+		for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+			result[i] = true;
+		}
+		return result;
+	}
+
+	private static final class Instance {
+
+		private final Node node;
+		private NodeDescription<?> description;
+		private List<Instance> children = Collections.emptyList();
+
+		private Instance(Node node) {
+			this.node = node;
+		}
+
+	}
+
+}
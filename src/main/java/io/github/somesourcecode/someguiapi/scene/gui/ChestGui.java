@@ -26,9 +26,12 @@ package io.github.somesourcecode.someguiapi.scene.gui;
 import io.github.somesourcecode.someguiapi.scene.context.GuiArea;
 import io.github.somesourcecode.someguiapi.scene.*;
 import io.github.somesourcecode.someguiapi.scene.context.GuiRenderContext;
+import io.github.somesourcecode.someguiapi.scene.context.PixelRenderContext;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.translation.GlobalTranslator;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.ClickType;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
@@ -37,8 +40,13 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Represents a GUI that can be shown to players.
@@ -52,6 +60,12 @@ public class ChestGui extends Gui implements InventoryHolder {
 
 	private Scene scene;
 
+	private PayloadBudget payloadBudget;
+
+	private boolean localized;
+	private final Map<Locale, Inventory> localizedInventories = new HashMap<>();
+	private boolean inventoryOutdated;
+
 	/**
 	 * Constructs a new ChestGui with the specified title and number of rows.
 	 *
@@ -84,36 +98,112 @@ public class ChestGui extends Gui implements InventoryHolder {
 
 	@Override
 	public  Inventory createInventory() {
-		return title == null ? Bukkit.createInventory(this, rows * 9)
-				: Bukkit.createInventory(this, rows * 9, title);
+		return createInventory(null);
+	}
+
+	private Inventory createInventory(Locale locale) {
+		if (title == null) {
+			return Bukkit.createInventory(this, rows * 9);
+		}
+		return Bukkit.createInventory(this, rows * 9, locale == null ? title : GlobalTranslator.render(title, locale));
 	}
 
 	@Override
 	public void show(HumanEntity humanEntity) {
-		if (getViewers().contains(humanEntity) && !isDirty()) {
+		final Locale locale = getRenderLocale(humanEntity);
+		Inventory target = locale == null ? inventory : localizedInventories.get(locale);
+		if (target != null && target.getViewers().contains(humanEntity) && !isDirty()) {
 			return;
 		}
 
-		final int oldRows = inventory.getSize() / 9;
-		ItemStack[] contents = Arrays.copyOf(inventory.getContents(), rows * 9);
+		// Every inventory is refreshed with the same changes, so the flags are captured before any render.
+		// Flags that are set by the render callbacks are kept for the next update.
+		final EnumSet<DirtyFlag> flags = EnumSet.copyOf(dirtyFlags);
+		final BitSet slots = (BitSet) dirtySlots.clone();
+		clearDirtyFlags();
 
-		if (inventory == null || isDirty(DirtyFlag.GUI_TITLE) || isDirty(DirtyFlag.GUI_ROWS)) {
-			inventory = createInventory();
+		if (locale == null || !inventory.getViewers().isEmpty()) {
+			inventory = refresh(inventory, null, inventoryOutdated ? EnumSet.allOf(DirtyFlag.class) : flags, slots);
+			inventoryOutdated = false;
+		} else if (!flags.isEmpty()) {
+			inventoryOutdated = true;
 		}
 
-		if (!isDirty(DirtyFlag.GUI_CONTENT) && rows <= oldRows) {
-			inventory.setContents(contents);
-		} else {
-			render();
+		if (!flags.isEmpty()) {
+			// every locale is rendered once, inventories without viewers are dropped
+			final Iterator<Map.Entry<Locale, Inventory>> iterator = localizedInventories.entrySet().iterator();
+			while (iterator.hasNext()) {
+				final Map.Entry<Locale, Inventory> entry = iterator.next();
+				if (entry.getValue().getViewers().isEmpty() && !entry.getKey().equals(locale)) {
+					iterator.remove();
+					if (payloadBudget != null) {
+						payloadBudget.remove(entry.getKey());
+					}
+				} else {
+					entry.setValue(refresh(entry.getValue(), entry.getKey(), flags, slots));
+				}
+			}
 		}
 
-		clearDirtyFlags();
-		humanEntity.openInventory(inventory);
+		target = locale == null ? inventory : localizedInventories.get(locale);
+		if (target == null) {
+			target = createInventory(locale);
+			render(target, locale, null);
+			localizedInventories.put(locale, target);
+		}
+
+		humanEntity.openInventory(target);
+	}
+
+	/**
+	 * Applies the specified dirty flags to the specified inventory.
+	 *
+	 * @param inventory the inventory
+	 * @param locale the locale of the inventory, or null
+	 * @param flags the dirty flags
+	 * @param slots the dirty slots
+	 * @return the updated inventory, which is a new inventory if the title or the rows changed
+	 */
+	private Inventory refresh(Inventory inventory, Locale locale, EnumSet<DirtyFlag> flags, BitSet slots) {
+		if (flags.isEmpty()) {
+			return inventory;
+		}
+
+		final int oldRows = inventory.getSize() / 9;
+		final boolean contentDirty = flags.contains(DirtyFlag.GUI_CONTENT) || rows > oldRows;
+		if (flags.contains(DirtyFlag.GUI_TITLE) || flags.contains(DirtyFlag.GUI_ROWS)) {
+			final Inventory oldInventory = inventory;
+			inventory = createInventory(locale);
+			if (!contentDirty) {
+				inventory.setContents(Arrays.copyOf(oldInventory.getContents(), rows * 9));
+			}
+		}
+
+		if (contentDirty) {
+			render(inventory, locale, null);
+		} else if (flags.contains(DirtyFlag.GUI_SLOTS)) {
+			render(inventory, locale, slots);
+		}
+		return inventory;
+	}
+
+	/**
+	 * Returns the locale this GUI is rendered for when shown to the specified human entity.
+	 */
+	private Locale getRenderLocale(HumanEntity humanEntity) {
+		return localized && humanEntity instanceof Player player ? player.locale() : null;
 	}
 
 	private boolean rendering = false;
 
-	private void render() {
+	/**
+	 * Renders the specified slots of this GUI into the specified inventory.
+	 *
+	 * @param inventory the inventory to render into
+	 * @param locale the locale to render for, or null
+	 * @param slots the indices of the slots to render, or null to render all slots
+	 */
+	private void render(Inventory inventory, Locale locale, BitSet slots) {
 		if (rendering) {
 			return;
 		}
@@ -122,11 +212,14 @@ public class ChestGui extends Gui implements InventoryHolder {
 
 		if (scene == null || (scene.getRoot() == null && scene.getBackground() == null)) {
 			inventory.clear();
+			if (payloadBudget != null) {
+				payloadBudget.clear(locale);
+			}
 			rendering = false;
 			return;
 		}
 
-		GuiRenderContext guiRenderContext = new GuiRenderContext(this, scene);
+		GuiRenderContext guiRenderContext = new GuiRenderContext(this, scene, locale);
 		fireOnRender(guiRenderContext);
 		if (scene != null) {
 			scene.fireOnRender(guiRenderContext);
@@ -138,45 +231,81 @@ public class ChestGui extends Gui implements InventoryHolder {
 		}
 
 		final HashMap<Integer, Pixel> renderOverrides = guiRenderContext.getRenderOverrides();
+		if (scene.getRoot() != null) {
+			scene.getRoot().layout();
+		}
 
-		if (scene.getRoot() == null) {
-			if (scene.getBackground() != null) {
-				for (int slot = 0; slot < inventory.getSize(); slot++) {
-					final int slotX = slot % 9;
-					final int slotY = slot / 9;
+		BitSet renderedSlots = slots;
+		ItemStack[] items = renderItems(guiRenderContext, renderOverrides, inventory.getSize(), slots);
+		if (payloadBudget != null && !payloadBudget.endRender()) {
+			// the dirty slots exceed the budget, so the lore is truncated across all slots instead
+			renderedSlots = null;
+			items = renderItems(guiRenderContext, renderOverrides, inventory.getSize(), null);
+			payloadBudget.endRender();
+		}
 
-					Pixel pixel = renderOverrides.getOrDefault(slot, scene.getBackground().backgroundAt(slotX, slotY));
-					inventory.setItem(slot, pixel == null ? null : pixel.renderItemStack(guiRenderContext.copyForPixel(slotX, slotY)));
-				}
+		// the items are only applied after the budget has truncated them
+		for (int slot = 0; slot < items.length; slot++) {
+			if (renderedSlots != null && !renderedSlots.get(slot)) {
+				continue;
 			}
-			return;
+			inventory.setItem(slot, items[slot]);
 		}
 
-		ItemStack[][] pixels = new ItemStack[9][rows];
-		Parent root = scene.getRoot();
-		root.layout();
+		rendering = false;
+	}
 
-		final int rootLayoutX = root.getLayoutX();
-		final int rootLayoutY = root.getLayoutY();
+	/**
+	 * Renders the items of the specified slots.
+	 *
+	 * @param guiRenderContext the render context
+	 * @param renderOverrides the pixels that replace the pixels of the scene
+	 * @param size the number of slots
+	 * @param slots the indices of the slots to render, or null to render all slots
+	 * @return the rendered items, indexed by slot
+	 */
+	private ItemStack[] renderItems(GuiRenderContext guiRenderContext, Map<Integer, Pixel> renderOverrides, int size, BitSet slots) {
+		if (payloadBudget != null) {
+			payloadBudget.beginRender(guiRenderContext.getLocale(), size, slots == null);
+		}
 
-		for (int x = 0; x < 9; x++) {
-			for (int y = 0; y < rows; y++) {
-				Pixel pixel = renderOverrides.getOrDefault(x + 9 * y, root.renderPixelAt(x - rootLayoutX, y - rootLayoutY));
-				if (pixel == null && scene.getBackground() != null) {
-					pixel = scene.getBackground().backgroundAt(x, y);
+		final Parent root = scene.getRoot();
+		final Background background = scene.getBackground();
+		final ItemStack[] items = new ItemStack[size];
+		for (int slot = 0; slot < size; slot++) {
+			if (slots != null && !slots.get(slot)) {
+				continue;
+			}
+			final int slotX = slot % 9;
+			final int slotY = slot / 9;
+
+			Pixel pixel;
+			if (root == null) {
+				pixel = renderOverrides.getOrDefault(slot, background.backgroundAt(slotX, slotY));
+			} else {
+				pixel = renderOverrides.getOrDefault(slot, root.renderPixelAt(slotX - root.getLayoutX(), slotY - root.getLayoutY()));
+				if (pixel == null && background != null) {
+					pixel = background.backgroundAt(slotX, slotY);
 				}
-				pixels[x][y] = pixel == null ? null : pixel.renderItemStack(guiRenderContext.copyForPixel(x, y));
 			}
+			items[slot] = renderPixel(pixel, guiRenderContext.copyForPixel(slotX, slotY), slot);
 		}
+		return items;
+	}
 
-		for (int x = 0; x < 9; x++) {
-			for (int y = 0; y < rows; y++) {
-				inventory.setItem(x + y * 9, pixels[x][y]);
-			}
+	private ItemStack renderPixel(Pixel pixel, PixelRenderContext renderContext, int slot) {
+		if (payloadBudget == null) {
+			return pixel == null ? null : pixel.renderItemStack(renderContext);
 		}
-
-		clearDirtyFlag(DirtyFlag.GUI_CONTENT);
-		rendering = false;
+		if (pixel == null || pixel.isEmpty()) {
+			payloadBudget.record(slot, null, false, null, null);
+			return null;
+		}
+		final Component title = pixel.renderTitle(renderContext);
+		final List<Component> lore = pixel.renderLore(renderContext);
+		final ItemStack item = pixel.createItemStack(title, lore);
+		payloadBudget.record(slot, item, pixel.isGlow(), title, lore);
+		return item;
 	}
 
 	/**
@@ -334,6 +463,80 @@ public class ChestGui extends Gui implements InventoryHolder {
 		update();
 	}
 
+	/**
+	 * Returns whether this GUI is rendered separately for each locale of its viewers.
+	 *
+	 * @return whether this GUI is localized
+	 * @since 2.2.0
+	 */
+	public boolean isLocalized() {
+		return localized;
+	}
+
+	/**
+	 * Sets whether this GUI is rendered separately for each locale of its viewers.
+	 * <p>
+	 * A localized GUI keeps one inventory for every distinct locale of its viewers. The title
+	 * and the lore of the items are translated with the {@link GlobalTranslator} when the inventory
+	 * is rendered, and viewers with the same locale share the rendered inventory. An update therefore
+	 * renders the GUI once per locale instead of once per viewer. The render callbacks are called for
+	 * every locale, and {@link io.github.somesourcecode.someguiapi.scene.context.RenderContext#getLocale()}
+	 * returns the locale that is rendered.
+	 *
+	 * @param localized whether this GUI should be localized
+	 * @since 2.2.0
+	 */
+	public void setLocalized(boolean localized) {
+		if (this.localized == localized) {
+			return;
+		}
+		this.localized = localized;
+		setDirtyFlag(DirtyFlag.GUI_CONTENT);
+		update();
+		if (!localized) {
+			if (payloadBudget != null) {
+				localizedInventories.keySet().forEach(payloadBudget::remove);
+			}
+			localizedInventories.clear();
+		}
+	}
+
+	/**
+	 * Returns the payload budget of this GUI.
+	 *
+	 * @return the payload budget, or null if the item sizes are not tracked
+	 * @since 2.2.0
+	 */
+	public PayloadBudget getPayloadBudget() {
+		return payloadBudget;
+	}
+
+	/**
+	 * Sets the payload budget of this GUI. The budget estimates the size of every
+	 * rendered item and truncates the lore of the items if the total size exceeds it.
+	 *
+	 * @param payloadBudget the payload budget, or null to disable tracking
+	 * @since 2.2.0
+	 */
+	public void setPayloadBudget(PayloadBudget payloadBudget) {
+		if (this.payloadBudget == payloadBudget) {
+			return;
+		}
+		this.payloadBudget = payloadBudget;
+		setDirtyFlag(DirtyFlag.GUI_CONTENT);
+		update();
+	}
+
+	/**
+	 * Returns the estimated total size of all items of this GUI after the last render.
+	 *
+	 * @return the total size in bytes, or 0 if this GUI has no payload budget
+	 * @since 2.2.0
+	 */
+	public int getPayloadSize() {
+		return payloadBudget == null ? 0 : payloadBudget.getTotalSize();
+	}
+
 	@Override
 	public @NotNull Inventory getInventory() {
 		return inventory;
@@ -341,7 +544,11 @@ public class ChestGui extends Gui implements InventoryHolder {
 
 	@Override
 	public List<HumanEntity> getViewers() {
-		return new ArrayList<>(inventory.getViewers());
+		final List<HumanEntity> viewers = new ArrayList<>(inventory.getViewers());
+		for (Inventory localizedInventory : localizedInventories.values()) {
+			viewers.addAll(localizedInventory.getViewers());
+		}
+		return viewers;
 	}
 
 }
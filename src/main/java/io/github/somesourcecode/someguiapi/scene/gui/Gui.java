@@ -32,6 +32,7 @@ import org.bukkit.entity.HumanEntity;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.BitSet;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.function.Consumer;
@@ -51,6 +52,11 @@ public abstract class Gui {
 				gui.setDirtyFlag(flag);
 			}
 
+			@Override
+			public void setDirtySlots(Gui gui, int x, int y, int width, int height) {
+				gui.setDirtySlots(x, y, width, height);
+			}
+
 			@Override
 			public void clearDirtyFlag(Gui gui, DirtyFlag flag) {
 				gui.clearDirtyFlag(flag);
@@ -68,6 +74,7 @@ public abstract class Gui {
 	protected final Storage storage = new Storage();
 
 	protected final EnumSet<DirtyFlag> dirtyFlags = EnumSet.noneOf(DirtyFlag.class);
+	protected final BitSet dirtySlots = new BitSet();
 
 	private Gui parent;
 
@@ -123,6 +130,38 @@ public abstract class Gui {
 		dirtyFlags.add(flag);
 	}
 
+	/**
+	 * Marks the slots in the specified area as dirty and sets the
+	 * {@link DirtyFlag#GUI_SLOTS} flag. Slots outside the GUI are ignored.
+	 *
+	 * @param x the x coordinate of the area
+	 * @param y the y coordinate of the area
+	 * @param width the width of the area
+	 * @param height the height of the area
+	 * @since 2.2.0
+	 */
+	protected void setDirtySlots(int x, int y, int width, int height) {
+		for (int slotY = Math.max(0, y); slotY < Math.min(6, y + height); slotY++) {
+			for (int slotX = Math.max(0, x); slotX < Math.min(9, x + width); slotX++) {
+				dirtySlots.set(slotX + 9 * slotY);
+			}
+		}
+		if (!dirtySlots.isEmpty()) {
+			dirtyFlags.add(DirtyFlag.GUI_SLOTS);
+		}
+	}
+
+	/**
+	 * Returns the indices of the slots that need to be rendered again.
+	 * The index of a slot is {@code x + 9 * y}.
+	 *
+	 * @return the dirty slots
+	 * @since 2.2.0
+	 */
+	public BitSet getDirtySlots() {
+		return (BitSet) dirtySlots.clone();
+	}
+
 	/**
 	 * Clears the specified dirty flag.
 	 *
@@ -131,6 +170,9 @@ public abstract class Gui {
 	 */
 	protected void clearDirtyFlag(DirtyFlag flag) {
 		dirtyFlags.remove(flag);
+		if (flag == DirtyFlag.GUI_SLOTS) {
+			dirtySlots.clear();
+		}
 	}
 
 	/**
@@ -139,6 +181,7 @@ public abstract class Gui {
 	 */
 	protected void clearDirtyFlags() {
 		dirtyFlags.clear();
+		dirtySlots.clear();
 	}
 
 	/**
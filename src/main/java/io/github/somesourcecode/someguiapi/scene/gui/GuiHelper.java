@@ -56,6 +56,10 @@ public class GuiHelper {
 		guiAccessor.setDirtyFlag(gui, flag);
 	}
 
+	public static void setDirtySlots(Gui gui, int x, int y, int width, int height) {
+		guiAccessor.setDirtySlots(gui, x, y, width, height);
+	}
+
 	public static void clearDirtyFlag(Gui gui, DirtyFlag flag) {
 		guiAccessor.clearDirtyFlag(gui, flag);
 	}
@@ -68,6 +72,8 @@ public class GuiHelper {
 
 		void setDirtyFlag(Gui gui, DirtyFlag flag);
 
+		void setDirtySlots(Gui gui, int x, int y, int width, int height);
+
 		void clearDirtyFlag(Gui gui, DirtyFlag flag);
 
 		void clearDirtyFlags(Gui gui);
@@ -0,0 +1,404 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.scene.gui;
+
+import io.github.somesourcecode.someguiapi.util.ComponentUtil;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Estimates the network size of the items rendered by a {@link ChestGui}
+ * and limits the total size of all items to a maximum.
+ * <p>
+ * The size of an item is estimated from the serialized size of its title and lore lines,
+ * plus a fixed overhead for the item itself and its metadata. It is an approximation
+ * of the size of the item in the window content packet.
+ * <p>
+ * If the total size exceeds the maximum, the lore of the rendered items is truncated.
+ * All lores are limited to the same number of bytes, which is chosen as large as possible,
+ * so items with short lore are not affected. Truncated lores end with the {@link #getEllipsis() ellipsis} line.
+ * Titles are never truncated.
+ * <p>
+ * A budget keeps the sizes of the last render of its GUI, so it should not be shared between GUIs.
+ * A {@link ChestGui#setLocalized(boolean) localized} GUI is rendered into one inventory per locale,
+ * and the budget keeps separate sizes for each of them. If the slots re-rendered by a partial render
+ * would exceed the maximum, the GUI is rendered completely, so the lore is truncated across all items.
+ *
+ * @since 2.2.0
+ */
+public final class PayloadBudget {
+
+	/**
+	 * The estimated size of an item without title and lore.
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int ITEM_OVERHEAD = 16;
+
+	/**
+	 * The estimated additional size of the display tag, the title and the lore list.
+	 */
+	private static final int DISPLAY_OVERHEAD = 16;
+	private static final int TITLE_OVERHEAD = 8;
+	private static final int LORE_OVERHEAD = 12;
+	private static final int LINE_OVERHEAD = 2;
+	private static final int GLOW_OVERHEAD = 48;
+
+	private final int maxBytes;
+	private Component ellipsis = Component.text("…", NamedTextColor.DARK_GRAY).decoration(TextDecoration.ITALIC, false);
+
+	private final Map<Locale, InventoryState> states = new HashMap<>();
+	private InventoryState state = new InventoryState();
+	private boolean fullRender;
+
+	/**
+	 * Constructs a new payload budget with the specified maximum total size.
+	 * Use {@link Integer#MAX_VALUE} to only measure the sizes.
+	 *
+	 * @param maxBytes the maximum total size of all items in bytes
+	 * @throws IllegalArgumentException if the maximum is negative
+	 * @since 2.2.0
+	 */
+	public PayloadBudget(int maxBytes) {
+		if (maxBytes < 0) {
+			throw new IllegalArgumentException("Maximum size must not be negative");
+		}
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Returns the maximum total size of all items in bytes.
+	 *
+	 * @return the maximum size
+	 * @since 2.2.0
+	 */
+	public int getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * Returns the line that replaces the truncated lines of a lore.
+	 *
+	 * @return the ellipsis line
+	 * @since 2.2.0
+	 */
+	public Component getEllipsis() {
+		return ellipsis;
+	}
+
+	/**
+	 * Sets the line that replaces the truncated lines of a lore.
+	 * If the ellipsis is null, the lore is truncated without a replacement.
+	 *
+	 * @param ellipsis the ellipsis line
+	 * @return the budget for method chaining
+	 * @since 2.2.0
+	 */
+	public PayloadBudget setEllipsis(Component ellipsis) {
+		this.ellipsis = ellipsis;
+		return this;
+	}
+
+	/**
+	 * Returns the estimated total size of all items of the inventory that was rendered last.
+	 *
+	 * @return the total size in bytes
+	 * @since 2.2.0
+	 */
+	public int getTotalSize() {
+		return state.totalSize;
+	}
+
+	/**
+	 * Returns the estimated total size of all items of the inventory rendered for the specified locale.
+	 *
+	 * @param locale the locale, or null for the inventory of a GUI that is not localized
+	 * @return the total size in bytes, or 0 if no inventory was rendered for the locale
+	 * @since 2.2.0
+	 */
+	public int getTotalSize(Locale locale) {
+		final InventoryState localeState = states.get(locale);
+		return localeState == null ? 0 : localeState.totalSize;
+	}
+
+	/**
+	 * Returns the estimated size of the item in the specified slot of the inventory that was rendered last.
+	 *
+	 * @param slot the slot index
+	 * @return the size in bytes, or 0 if the slot is empty
+	 * @since 2.2.0
+	 */
+	public int getSize(int slot) {
+		return slot >= 0 && slot < state.slotSizes.length ? state.slotSizes[slot] : 0;
+	}
+
+	/**
+	 * Estimates the size of an item with the specified title and lore.
+	 *
+	 * @param title the title, or null
+	 * @param lore the lore lines, or null
+	 * @param glow whether the item glows
+	 * @return the estimated size in bytes
+	 * @since 2.2.0
+	 */
+	public static int estimateSize(Component title, List<? extends Component> lore, boolean glow) {
+		int size = ITEM_OVERHEAD + (glow ? GLOW_OVERHEAD : 0);
+		if (title != null || lore != null) {
+			size += DISPLAY_OVERHEAD;
+		}
+		if (title != null) {
+			size += TITLE_OVERHEAD + ComponentUtil.getSerializedSize(title);
+		}
+		if (lore != null) {
+			size += LORE_OVERHEAD;
+			for (Component line : lore) {
+				size += LINE_OVERHEAD + ComponentUtil.getSerializedSize(line);
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Starts a render of the specified number of slots into the inventory of the specified locale.
+	 */
+	void beginRender(Locale locale, int slotCount, boolean fullRender) {
+		state = states.computeIfAbsent(locale, key -> new InventoryState());
+		this.fullRender = fullRender;
+		if (state.slotSizes.length != slotCount) {
+			state.slotSizes = Arrays.copyOf(state.slotSizes, slotCount);
+		}
+		state.renderedSlots.clear();
+		if (fullRender) {
+			// only the sizes of the components that are still rendered are kept
+			final Map<Component, Integer> swap = state.previousSizes;
+			state.previousSizes = state.sizes;
+			state.sizes = swap;
+			state.sizes.clear();
+		}
+	}
+
+	/**
+	 * Resets the sizes of the inventory of the specified locale after all items were removed.
+	 */
+	void clear(Locale locale) {
+		final InventoryState localeState = states.get(locale);
+		if (localeState != null) {
+			Arrays.fill(localeState.slotSizes, 0);
+			localeState.totalSize = 0;
+			localeState.renderedSlots.clear();
+		}
+	}
+
+	/**
+	 * Drops the sizes of the inventory of the specified locale, which is no longer used.
+	 */
+	void remove(Locale locale) {
+		final InventoryState removed = states.remove(locale);
+		if (removed == state) {
+			state = new InventoryState();
+		}
+	}
+
+	/**
+	 * Records the item that was rendered for a slot.
+	 */
+	void record(int slot, ItemStack item, boolean glow, Component title, List<Component> lore) {
+		if (item == null) {
+			state.slotSizes[slot] = 0;
+			return;
+		}
+
+		final RenderedSlot renderedSlot = new RenderedSlot(slot, item, lore);
+		int size = ITEM_OVERHEAD + (glow ? GLOW_OVERHEAD : 0);
+		if (title != null || lore != null) {
+			size += DISPLAY_OVERHEAD;
+		}
+		if (title != null) {
+			size += TITLE_OVERHEAD + sizeOf(title);
+		}
+		if (lore != null) {
+			size += LORE_OVERHEAD;
+			renderedSlot.lineSizes = new int[lore.size()];
+			for (int i = 0; i < lore.size(); i++) {
+				renderedSlot.lineSizes[i] = LINE_OVERHEAD + sizeOf(lore.get(i));
+				renderedSlot.loreSize += renderedSlot.lineSizes[i];
+			}
+		}
+		state.slotSizes[slot] = size + renderedSlot.loreSize;
+		if (renderedSlot.loreSize > 0) {
+			state.renderedSlots.add(renderedSlot);
+		}
+	}
+
+	/**
+	 * Finishes the render and truncates the lore of the rendered items if the total size exceeds the maximum.
+	 * Only a full render can be truncated, because the lore has to be truncated across all items.
+	 *
+	 * @return false if a partial render exceeds the maximum and all slots have to be rendered instead
+	 */
+	boolean endRender() {
+		final List<RenderedSlot> renderedSlots = state.renderedSlots;
+		int total = 0;
+		for (int size : state.slotSizes) {
+			total += size;
+		}
+		state.totalSize = total;
+		if (total <= maxBytes || renderedSlots.isEmpty()) {
+			renderedSlots.clear();
+			return true;
+		}
+		if (!fullRender) {
+			renderedSlots.clear();
+			return false;
+		}
+
+		final int ellipsisSize = ellipsis == null ? 0 : LINE_OVERHEAD + sizeOf(ellipsis);
+		int fixed = total;
+		int maxLoreSize = 0;
+		for (RenderedSlot renderedSlot : renderedSlots) {
+			fixed -= renderedSlot.loreSize;
+			maxLoreSize = Math.max(maxLoreSize, renderedSlot.loreSize);
+		}
+
+		// find the largest lore limit at which all items fit into the budget
+		int low = 0;
+		int high = maxLoreSize;
+		while (low < high) {
+			final int limit = (low + high + 1) >>> 1;
+			if (fixed + truncatedSize(renderedSlots, limit, ellipsisSize) <= maxBytes) {
+				low = limit;
+			} else {
+				high = limit - 1;
+			}
+		}
+
+		for (RenderedSlot renderedSlot : renderedSlots) {
+			if (renderedSlot.loreSize <= low) {
+				continue;
+			}
+			final int lines = renderedSlot.keptLines(low, ellipsisSize);
+			final List<Component> truncated = new ArrayList<>(renderedSlot.lore.subList(0, lines));
+			int loreSize = renderedSlot.sizeOfLines(lines);
+			if (ellipsis != null && ellipsisSize <= low) {
+				truncated.add(ellipsis);
+				loreSize += ellipsisSize;
+			}
+			renderedSlot.item.lore(truncated);
+			state.slotSizes[renderedSlot.slot] += loreSize - renderedSlot.loreSize;
+			state.totalSize += loreSize - renderedSlot.loreSize;
+		}
+		renderedSlots.clear();
+		return true;
+	}
+
+	private static int truncatedSize(List<RenderedSlot> renderedSlots, int limit, int ellipsisSize) {
+		int size = 0;
+		for (RenderedSlot renderedSlot : renderedSlots) {
+			if (renderedSlot.loreSize <= limit) {
+				size += renderedSlot.loreSize;
+				continue;
+			}
+			size += renderedSlot.sizeOfLines(renderedSlot.keptLines(limit, ellipsisSize));
+			if (ellipsisSize > 0 && ellipsisSize <= limit) {
+				size += ellipsisSize;
+			}
+		}
+		return size;
+	}
+
+	private int sizeOf(Component component) {
+		Integer size = state.sizes.get(component);
+		if (size == null) {
+			size = state.previousSizes.get(component);
+			if (size == null) {
+				size = ComponentUtil.getSerializedSize(component);
+			}
+			state.sizes.put(component, size);
+		}
+		return size;
+	}
+
+	/**
+	 * The sizes of the items of a single inventory.
+	 */
+	private static final class InventoryState {
+
+		private int[] slotSizes = new int[0];
+		private int totalSize;
+
+		private Map<Component, Integer> sizes = new IdentityHashMap<>();
+		private Map<Component, Integer> previousSizes = new IdentityHashMap<>();
+		private final List<RenderedSlot> renderedSlots = new ArrayList<>();
+
+	}
+
+	private static final class RenderedSlot {
+
+		private final int slot;
+		private final ItemStack item;
+		private final List<Component> lore;
+
+		private int[] lineSizes;
+		private int loreSize;
+
+		private RenderedSlot(int slot, ItemStack item, List<Component> lore) {
+			this.slot = slot;
+			this.item = item;
+			this.lore = lore;
+		}
+
+		/**
+		 * Returns the number of lines that fit into the limit, leaving room for the ellipsis.
+		 */
+		private int keptLines(int limit, int ellipsisSize) {
+			final int available = ellipsisSize <= limit ? limit - ellipsisSize : limit;
+			int size = 0;
+			int lines = 0;
+			while (lines < lineSizes.length && size + lineSizes[lines] <= available) {
+				size += lineSizes[lines++];
+			}
+			return lines;
+		}
+
+		private int sizeOfLines(int lines) {
+			int size = 0;
+			for (int i = 0; i < lines; i++) {
+				size += lineSizes[i];
+			}
+			return size;
+		}
+
+	}
+
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.scene.layout;
+
+import io.github.somesourcecode.someguiapi.scene.Parent;
+
+import java.lang.ref.SoftReference;
+import java.util.function.Supplier;
+
+/**
+ * A region whose content is only built when it is shown for the first time.
+ * <p>
+ * The content is created by a supplier during the first layout pass in which this pane
+ * is visible and part of a scene. When the pane is hidden, the content is detached and
+ * only softly referenced, so it can be reused when the pane is shown again, but will be
+ * reclaimed by the garbage collector under memory pressure. Any caches that are only
+ * reachable through the subtree are released along with it.
+ * <p>
+ * Lazy panes that share a {@link SubtreeCache} only keep the subtrees of the most
+ * recently shown panes; the subtrees of the other panes are evicted eagerly. This is
+ * useful for menus with many tabs, of which players usually only look at a few.
+ * <p>
+ * If the content is a {@link Region}, it is resized to the size of this pane.
+ *
+ * @since 2.2.0
+ */
+public class LazyPane extends Region {
+
+	private Supplier<? extends Parent> contentSupplier;
+	private SubtreeCache cache;
+
+	private SoftReference<Parent> contentReference;
+
+	/**
+	 * Constructs a new lazy pane with the given content supplier.
+	 *
+	 * @param contentSupplier the supplier that builds the content
+	 * @since 2.2.0
+	 */
+	public LazyPane(Supplier<? extends Parent> contentSupplier) {
+		this(contentSupplier, null);
+	}
+
+	/**
+	 * Constructs a new lazy pane with the given content supplier and cache.
+	 *
+	 * @param contentSupplier the supplier that builds the content
+	 * @param cache the cache shared with other lazy panes, or null
+	 * @since 2.2.0
+	 */
+	public LazyPane(Supplier<? extends Parent> contentSupplier, SubtreeCache cache) {
+		super();
+		this.contentSupplier = contentSupplier;
+		this.cache = cache;
+	}
+
+	/**
+	 * Returns the supplier that builds the content.
+	 *
+	 * @return the content supplier
+	 * @since 2.2.0
+	 */
+	public Supplier<? extends Parent> getContentSupplier() {
+		return contentSupplier;
+	}
+
+	/**
+	 * Sets the supplier that builds the content.
+	 * The current content is evicted.
+	 *
+	 * @param contentSupplier the content supplier
+	 * @since 2.2.0
+	 */
+	public void setContentSupplier(Supplier<? extends Parent> contentSupplier) {
+		this.contentSupplier = contentSupplier;
+		evict();
+		requestLayout();
+	}
+
+	/**
+	 * Returns the cache this pane shares with other lazy panes.
+	 *
+	 * @return the cache, or null if this pane does not use one
+	 * @since 2.2.0
+	 */
+	public SubtreeCache getCache() {
+		return cache;
+	}
+
+	/**
+	 * Sets the cache this pane shares with other lazy panes.
+	 *
+	 * @param cache the cache, or null
+	 * @since 2.2.0
+	 */
+	public void setCache(SubtreeCache cache) {
+		if (this.cache == cache) {
+			return;
+		}
+		if (this.cache != null) {
+			this.cache.remove(this);
+		}
+		this.cache = cache;
+		if (cache != null && getContent() != null) {
+			cache.touch(this);
+		}
+	}
+
+	/**
+	 * Returns the content of this pane, if it has been built and not been evicted.
+	 *
+	 * @return the content, or null
+	 * @since 2.2.0
+	 */
+	public Parent getContent() {
+		return contentReference == null ? null : contentReference.get();
+	}
+
+	/**
+	 * Returns whether the content of this pane is built.
+	 *
+	 * @return whether the content is built
+	 * @since 2.2.0
+	 */
+	public boolean isLoaded() {
+		return getContent() != null;
+	}
+
+	/**
+	 * Returns whether this pane is currently showing, i.e. it is part
+	 * of a scene and it and all of its ancestors are visible.
+	 *
+	 * @return whether this pane is showing
+	 * @since 2.2.0
+	 */
+	public boolean isShowing() {
+		if (getScene() == null) {
+			return false;
+		}
+		for (Parent node = this; node != null; node = node.getParent()) {
+			if (!node.isVisible()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Discards the content of this pane. It will be built again
+	 * the next time this pane is shown.
+	 *
+	 * @since 2.2.0
+	 */
+	public void evict() {
+		if (contentReference != null) {
+			contentReference.clear();
+			contentReference = null;
+		}
+		if (cache != null) {
+			cache.remove(this);
+		}
+		if (!getChildren().isEmpty()) {
+			getChildren().clear();
+		}
+	}
+
+	@Override
+	public void setVisible(boolean visible) {
+		if (isVisible() == visible) {
+			return;
+		}
+		super.setVisible(visible);
+		if (visible) {
+			requestLayout();
+		} else if (!getChildren().isEmpty()) {
+			getChildren().clear();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If the content of this pane is loaded, the copy gets a copy of the content.
+	 * Otherwise, the copy builds its own content when it is shown.
+	 */
+	@Override
+	public LazyPane copy() {
+		final LazyPane copy = (LazyPane) super.copy();
+		copy.contentReference = copy.getChildren().isEmpty()
+				? null
+				: new SoftReference<>((Parent) copy.getChildren().get(0));
+		return copy;
+	}
+
+	@Override
+	protected void layoutChildren() {
+		if (!isShowing() || contentSupplier == null) {
+			return;
+		}
+
+		Parent content = getContent();
+		if (content == null) {
+			content = contentSupplier.get();
+			if (content == null) {
+				return;
+			}
+			contentReference = new SoftReference<>(content);
+		}
+		if (cache != null) {
+			cache.touch(this);
+		}
+
+		if (getChildren().isEmpty()) {
+			getChildren().add(content);
+		}
+		content.relocate(0, 0);
+		if (content instanceof Region region) {
+			region.resize(getWidth(), getHeight());
+		}
+	}
+
+}
@@ -0,0 +1,544 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.scene.layout;
+
+import io.github.somesourcecode.someguiapi.scene.Node;
+import io.github.somesourcecode.someguiapi.scene.Parent;
+import io.github.somesourcecode.someguiapi.scene.Pixel;
+import io.github.somesourcecode.someguiapi.scene.Scene;
+import io.github.somesourcecode.someguiapi.scene.util.Insets;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.logging.Level;
+
+/**
+ * A pane that displays the entries of one page at a time, loading pages asynchronously.
+ * <p>
+ * Pages are requested from a page source, which returns a {@link CompletableFuture} for
+ * the entries of a page index. The entries are turned into nodes by the cell factory and
+ * arranged in a grid filling the area inside the padding, from left to right and top to bottom.
+ * Every cell occupies a single slot, so the page size is the number of slots in that area.
+ * <p>
+ * While a page is loading, the placeholder pixel is shown in every slot of the content area.
+ * Whenever a page is shown, the previous and next pages are requested as well, so that
+ * they are usually available once the player navigates. Loaded pages are kept in a cache
+ * of bounded size, evicting the least recently used page first.
+ * <p>
+ * Completed pages are always applied on the main thread. Changing the page only requests a render
+ * of the content area, the GUI has to be updated by the caller. Pages that finish loading
+ * asynchronously update the GUI themselves.
+ * <p>
+ * The first page is loaded when the pane is laid out for the first time.
+ *
+ * @param <T> the type of the entries
+ * @since 2.2.0
+ */
+public class PaginatedPane<T> extends Region {
+
+	/**
+	 * The default number of pages that are kept in the cache.
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 5;
+
+	private static final Executor MAIN_THREAD_EXECUTOR = runnable -> {
+		if (Bukkit.isPrimaryThread()) {
+			runnable.run();
+		} else {
+			Bukkit.getScheduler().runTask(JavaPlugin.getProvidingPlugin(PaginatedPane.class), runnable);
+		}
+	};
+
+	private LinkedHashMap<Integer, CompletableFuture<List<T>>> pages = createPageCache();
+
+	private IntFunction<CompletableFuture<List<T>>> pageSource;
+	private Function<? super T, ? extends Node> cellFactory;
+
+	private Pixel placeholder;
+
+	private int page;
+	private int pageCount = -1;
+	private int cacheSize = DEFAULT_CACHE_SIZE;
+
+	private List<T> entries = Collections.emptyList();
+	private int cellsPageSize;
+	private boolean loading;
+	private int generation;
+	private boolean pageRequested;
+	private boolean swappingPage;
+
+	/**
+	 * Constructs a new paginated pane without page source.
+	 *
+	 * @since 2.2.0
+	 */
+	public PaginatedPane() {
+		super();
+	}
+
+	/**
+	 * Constructs a new paginated pane with the given page source and cell factory.
+	 * The first page is loaded when the pane is laid out.
+	 *
+	 * @param pageSource the function that loads the entries of a page
+	 * @param cellFactory the function that creates the node for an entry
+	 * @since 2.2.0
+	 */
+	public PaginatedPane(IntFunction<CompletableFuture<List<T>>> pageSource, Function<? super T, ? extends Node> cellFactory) {
+		super();
+		this.pageSource = pageSource;
+		this.cellFactory = cellFactory;
+	}
+
+	/**
+	 * Returns the function that loads the entries of a page.
+	 *
+	 * @return the page source
+	 * @since 2.2.0
+	 */
+	public IntFunction<CompletableFuture<List<T>>> getPageSource() {
+		return pageSource;
+	}
+
+	/**
+	 * Sets the function that loads the entries of a page.
+	 * The function receives the page index and should complete the returned future
+	 * asynchronously, e.g. after querying a database. The cache is cleared and the
+	 * current page is loaded again.
+	 *
+	 * @param pageSource the page source
+	 * @since 2.2.0
+	 */
+	public void setPageSource(IntFunction<CompletableFuture<List<T>>> pageSource) {
+		this.pageSource = pageSource;
+		refresh();
+	}
+
+	/**
+	 * Returns the function that creates the node for an entry.
+	 *
+	 * @return the cell factory
+	 * @since 2.2.0
+	 */
+	public Function<? super T, ? extends Node> getCellFactory() {
+		return cellFactory;
+	}
+
+	/**
+	 * Sets the function that creates the node for an entry.
+	 * If the function returns null, the entry is skipped.
+	 *
+	 * @param cellFactory the cell factory
+	 * @since 2.2.0
+	 */
+	public void setCellFactory(Function<? super T, ? extends Node> cellFactory) {
+		this.cellFactory = cellFactory;
+		if (!loading) {
+			setEntries(entries);
+		}
+	}
+
+	/**
+	 * Returns the pixel that is shown in the content area while a page is loading.
+	 *
+	 * @return the placeholder
+	 * @since 2.2.0
+	 */
+	public Pixel getPlaceholder() {
+		return placeholder;
+	}
+
+	/**
+	 * Sets the pixel that is shown in the content area while a page is loading.
+	 *
+	 * @param placeholder the placeholder
+	 * @since 2.2.0
+	 */
+	public void setPlaceholder(Pixel placeholder) {
+		this.placeholder = placeholder;
+		if (loading) {
+			requestContentRender();
+		}
+	}
+
+	/**
+	 * Returns the index of the current page, starting at 0.
+	 *
+	 * @return the current page
+	 * @since 2.2.0
+	 */
+	public int getPage() {
+		return page;
+	}
+
+	/**
+	 * Shows the page with the specified index.
+	 *
+	 * @param page the index of the page
+	 * @throws IllegalArgumentException if the page is out of bounds
+	 * @since 2.2.0
+	 */
+	public void setPage(int page) {
+		if (page < 0 || (pageCount >= 0 && page >= pageCount)) {
+			throw new IllegalArgumentException("Page " + page + " is out of bounds");
+		}
+		if (this.page == page) {
+			return;
+		}
+		this.page = page;
+		showPage();
+	}
+
+	/**
+	 * Returns the number of pages, or -1 if it is unknown.
+	 *
+	 * @return the number of pages
+	 * @since 2.2.0
+	 */
+	public int getPageCount() {
+		return pageCount;
+	}
+
+	/**
+	 * Sets the number of pages. Pass -1 if the number of pages is unknown.
+	 *
+	 * @param pageCount the number of pages
+	 * @since 2.2.0
+	 */
+	public void setPageCount(int pageCount) {
+		this.pageCount = Math.max(-1, pageCount);
+	}
+
+	/**
+	 * Returns whether there is a page before the current page.
+	 *
+	 * @return whether there is a previous page
+	 * @since 2.2.0
+	 */
+	public boolean hasPrevious() {
+		return page > 0;
+	}
+
+	/**
+	 * Returns whether there is a page after the current page.
+	 * If the number of pages is unknown, this method always returns true.
+	 *
+	 * @return whether there is a next page
+	 * @since 2.2.0
+	 */
+	public boolean hasNext() {
+		return pageCount < 0 || page < pageCount - 1;
+	}
+
+	/**
+	 * Shows the previous page. Does nothing if this is the first page.
+	 *
+	 * @since 2.2.0
+	 */
+	public void previous() {
+		if (hasPrevious()) {
+			setPage(page - 1);
+		}
+	}
+
+	/**
+	 * Shows the next page. Does nothing if this is the last page.
+	 *
+	 * @since 2.2.0
+	 */
+	public void next() {
+		if (hasNext()) {
+			setPage(page + 1);
+		}
+	}
+
+	/**
+	 * Returns the number of entries that fit on a page.
+	 * This is the number of slots inside the padding of this pane.
+	 *
+	 * @return the page size
+	 * @since 2.2.0
+	 */
+	public int getPageSize() {
+		return getColumns() * getRows();
+	}
+
+	/**
+	 * Returns the maximum number of pages kept in the cache.
+	 *
+	 * @return the cache size
+	 * @since 2.2.0
+	 */
+	public int getCacheSize() {
+		return cacheSize;
+	}
+
+	/**
+	 * Sets the maximum number of pages kept in the cache. The cache must at least
+	 * be able to hold the current page and its two neighbors.
+	 *
+	 * @param cacheSize the cache size
+	 * @throws IllegalArgumentException if the cache size is less than 3
+	 * @since 2.2.0
+	 */
+	public void setCacheSize(int cacheSize) {
+		if (cacheSize < 3) {
+			throw new IllegalArgumentException("Cache size must be at least 3");
+		}
+		this.cacheSize = cacheSize;
+		final Iterator<Integer> iterator = pages.keySet().iterator();
+		while (pages.size() > cacheSize && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Returns whether the current page is still loading.
+	 *
+	 * @return whether the current page is loading
+	 * @since 2.2.0
+	 */
+	public boolean isLoading() {
+		return loading;
+	}
+
+	/**
+	 * Returns the entries of the current page. The list is
+	 * empty while the current page is loading.
+	 *
+	 * @return the entries of the current page
+	 * @since 2.2.0
+	 */
+	public List<T> getEntries() {
+		return Collections.unmodifiableList(entries);
+	}
+
+	/**
+	 * Clears the cache and loads the current page again.
+	 *
+	 * @since 2.2.0
+	 */
+	public void refresh() {
+		pages.clear();
+		showPage();
+	}
+
+	@Override
+	public void requestLayout() {
+		if (swappingPage) {
+			return;
+		}
+		super.requestLayout();
+	}
+
+	@Override
+	protected void layoutChildren() {
+		if (!pageRequested) {
+			showPage();
+		} else if (getPageSize() != cellsPageSize) {
+			createCells();
+		} else {
+			placeCells();
+		}
+	}
+
+	private void placeCells() {
+		final Insets padding = getPadding();
+		final int columns = Math.max(1, getColumns());
+
+		int index = 0;
+		for (Node child : getChildren()) {
+			final int x = padding.getLeft() + index % columns;
+			final int y = padding.getTop() + index / columns;
+			child.relocate(x + child.getTranslateX(), y + child.getTranslateY());
+			index++;
+		}
+	}
+
+	@Override
+	public Pixel renderPixelAt(int x, int y) {
+		if (loading && placeholder != null && isInContentArea(x, y)) {
+			return placeholder;
+		}
+		return super.renderPixelAt(x, y);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The copy shares the already loaded pages with this pane, but has its own cache.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public PaginatedPane<T> copy() {
+		final PaginatedPane<T> copy = (PaginatedPane<T>) super.copy();
+		copy.pages = copy.createPageCache();
+		copy.pages.putAll(pages);
+		copy.swappingPage = false;
+		if (loading) {
+			copy.showPage();
+		}
+		return copy;
+	}
+
+	private LinkedHashMap<Integer, CompletableFuture<List<T>>> createPageCache() {
+		return new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, CompletableFuture<List<T>>> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	private void showPage() {
+		final int requestedGeneration = ++generation;
+		pageRequested = true;
+
+		if (pageSource == null) {
+			loading = false;
+			setEntries(Collections.emptyList());
+			return;
+		}
+
+		final CompletableFuture<List<T>> future = loadPage(page);
+		if (future.isDone() && !future.isCompletedExceptionally()) {
+			loading = false;
+			setEntries(future.join());
+		} else {
+			loading = true;
+			setEntries(Collections.emptyList());
+
+			final int requestedPage = page;
+			future.whenComplete((loadedEntries, throwable) -> MAIN_THREAD_EXECUTOR.execute(() -> {
+				if (throwable != null) {
+					Bukkit.getLogger().log(Level.SEVERE, "An error occurred while loading page " + requestedPage, throwable);
+					pages.remove(requestedPage, future);
+				}
+				if (generation != requestedGeneration) {
+					return;
+				}
+				loading = false;
+				setEntries(throwable == null ? loadedEntries : Collections.emptyList());
+
+				final Scene scene = getScene();
+				if (scene != null && scene.getGui() != null) {
+					scene.getGui().update();
+				}
+			}));
+		}
+
+		prefetch(page - 1);
+		prefetch(page + 1);
+	}
+
+	private void prefetch(int index) {
+		if (index < 0 || (pageCount >= 0 && index >= pageCount)) {
+			return;
+		}
+		loadPage(index);
+	}
+
+	private CompletableFuture<List<T>> loadPage(int index) {
+		CompletableFuture<List<T>> future = pages.get(index);
+		if (future != null && !future.isCompletedExceptionally()) {
+			return future;
+		}
+
+		try {
+			future = pageSource.apply(index);
+		} catch (Exception e) {
+			future = CompletableFuture.failedFuture(e);
+		}
+		if (future == null) {
+			future = CompletableFuture.completedFuture(Collections.emptyList());
+		}
+		pages.put(index, future);
+		return future;
+	}
+
+	private void setEntries(List<T> entries) {
+		this.entries = entries == null ? Collections.emptyList() : entries;
+		createCells();
+		requestContentRender();
+	}
+
+	private void createCells() {
+		final int pageSize = getPageSize();
+		final List<Node> cells = new ArrayList<>(Math.min(pageSize, this.entries.size()));
+		if (cellFactory != null) {
+			for (int i = 0; i < this.entries.size() && i < pageSize; i++) {
+				final Node cell = cellFactory.apply(this.entries.get(i));
+				if (cell != null) {
+					cells.add(cell);
+				}
+			}
+		}
+
+		swappingPage = true;
+		try {
+			getChildren().setAll(cells);
+			placeCells();
+			for (Node cell : cells) {
+				if (cell instanceof Parent cellAsParent) {
+					cellAsParent.layout();
+				}
+			}
+		} finally {
+			swappingPage = false;
+		}
+		cellsPageSize = pageSize;
+	}
+
+	private void requestContentRender() {
+		requestRender(getPadding().getLeft(), getPadding().getTop(), getColumns(), getRows());
+	}
+
+	private boolean isInContentArea(int x, int y) {
+		final Insets padding = getPadding();
+		return x >= padding.getLeft() && y >= padding.getTop()
+				&& x < getWidth() - padding.getRight() && y < getHeight() - padding.getBottom();
+	}
+
+	private int getColumns() {
+		return Math.max(0, getWidth() - getPadding().getLeft() - getPadding().getRight());
+	}
+
+	private int getRows() {
+		return Math.max(0, getHeight() - getPadding().getTop() - getPadding().getBottom());
+	}
+
+}
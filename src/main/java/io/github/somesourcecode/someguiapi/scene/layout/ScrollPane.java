@@ -0,0 +1,268 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.scene.layout;
+
+import io.github.somesourcecode.someguiapi.scene.Node;
+import io.github.somesourcecode.someguiapi.scene.Pixel;
+
+/**
+ * A pane that displays a viewport onto content that can be larger than the pane itself.
+ * <p>
+ * Children are positioned freely in the content coordinate space, like in a {@link Pane}.
+ * Scrolling only moves the viewport; the children are never relocated. The pane always
+ * clips its children to its own bounds.
+ * <p>
+ * The bounds of the children are kept in a spatial index, so rendering and hit testing
+ * only visit the children that intersect the displayed slot. The index is rebuilt
+ * lazily whenever a layout update is requested, e.g. because a child was added,
+ * removed, relocated or resized.
+ *
+ * @since 2.2.0
+ */
+public class ScrollPane extends Pane {
+
+	private int scrollX;
+	private int scrollY;
+
+	private SpatialIndex index;
+	private boolean indexValid;
+
+	/**
+	 * Constructs a new empty scroll pane.
+	 *
+	 * @since 2.2.0
+	 */
+	public ScrollPane() {
+		super();
+	}
+
+	/**
+	 * Constructs a new scroll pane with the given children.
+	 *
+	 * @param children the children of the scroll pane
+	 * @since 2.2.0
+	 */
+	public ScrollPane(Node... children) {
+		super(children);
+	}
+
+	/**
+	 * Returns the x coordinate of the content that is displayed
+	 * at the left edge of the viewport.
+	 *
+	 * @return the horizontal scroll position
+	 * @since 2.2.0
+	 */
+	public int getScrollX() {
+		return scrollX;
+	}
+
+	/**
+	 * Sets the x coordinate of the content that is displayed
+	 * at the left edge of the viewport.
+	 *
+	 * @param scrollX the horizontal scroll position
+	 * @since 2.2.0
+	 */
+	public void setScrollX(int scrollX) {
+		if (this.scrollX == scrollX) {
+			return;
+		}
+		this.scrollX = scrollX;
+		requestRender();
+	}
+
+	/**
+	 * Returns the y coordinate of the content that is displayed
+	 * at the top edge of the viewport.
+	 *
+	 * @return the vertical scroll position
+	 * @since 2.2.0
+	 */
+	public int getScrollY() {
+		return scrollY;
+	}
+
+	/**
+	 * Sets the y coordinate of the content that is displayed
+	 * at the top edge of the viewport.
+	 *
+	 * @param scrollY the vertical scroll position
+	 * @since 2.2.0
+	 */
+	public void setScrollY(int scrollY) {
+		if (this.scrollY == scrollY) {
+			return;
+		}
+		this.scrollY = scrollY;
+		requestRender();
+	}
+
+	/**
+	 * Scrolls the viewport to the specified content coordinates.
+	 * This is equivalent to calling {@link #setScrollX(int)} and {@link #setScrollY(int)}.
+	 *
+	 * @param scrollX the horizontal scroll position
+	 * @param scrollY the vertical scroll position
+	 * @since 2.2.0
+	 */
+	public void scrollTo(int scrollX, int scrollY) {
+		setScrollX(scrollX);
+		setScrollY(scrollY);
+	}
+
+	/**
+	 * Moves the viewport by the specified amount. The resulting scroll position
+	 * is clamped, so that the viewport does not leave the content.
+	 *
+	 * @param deltaX the horizontal amount
+	 * @param deltaY the vertical amount
+	 * @since 2.2.0
+	 */
+	public void scrollBy(int deltaX, int deltaY) {
+		scrollTo(clamp(scrollX + deltaX, getMaxScrollX()), clamp(scrollY + deltaY, getMaxScrollY()));
+	}
+
+	/**
+	 * Returns the width of the content, i.e. the right-most edge of all children.
+	 *
+	 * @return the width of the content
+	 * @since 2.2.0
+	 */
+	public int getContentWidth() {
+		return getIndex().getContentWidth();
+	}
+
+	/**
+	 * Returns the height of the content, i.e. the bottom-most edge of all children.
+	 *
+	 * @return the height of the content
+	 * @since 2.2.0
+	 */
+	public int getContentHeight() {
+		return getIndex().getContentHeight();
+	}
+
+	/**
+	 * Returns the largest horizontal scroll position at which
+	 * the viewport is still completely filled with content.
+	 *
+	 * @return the maximum horizontal scroll position
+	 * @since 2.2.0
+	 */
+	public int getMaxScrollX() {
+		return Math.max(0, getContentWidth() - getWidth());
+	}
+
+	/**
+	 * Returns the largest vertical scroll position at which
+	 * the viewport is still completely filled with content.
+	 *
+	 * @return the maximum vertical scroll position
+	 * @since 2.2.0
+	 */
+	public int getMaxScrollY() {
+		return Math.max(0, getContentHeight() - getHeight());
+	}
+
+	@Override
+	public boolean isClipping() {
+		return true;
+	}
+
+	@Override
+	public void requestLayout() {
+		indexValid = false;
+		super.requestLayout();
+	}
+
+	@Override
+	protected int getViewportX() {
+		return scrollX;
+	}
+
+	@Override
+	protected int getViewportY() {
+		return scrollY;
+	}
+
+	@Override
+	public Pixel renderPixelAt(int x, int y) {
+		final boolean isInBounds = x >= 0 && y >= 0 && x < getWidth() && y < getHeight();
+		if (!isInBounds) {
+			return null;
+		}
+
+		final int contentX = x + scrollX;
+		final int contentY = y + scrollY;
+
+		final Pixel pixel = getIndex().findTopmost(contentX, contentY, child -> child.isVisible()
+				? child.renderPixelAt(contentX - child.getLayoutX(), contentY - child.getLayoutY())
+				: null);
+		if (pixel != null) {
+			return pixel;
+		}
+
+		return getBackground() != null ? getBackground().backgroundAt(x, y) : null;
+	}
+
+	@Override
+	public Node nodeAt(int x, int y) {
+		final boolean isInBounds = x >= 0 && y >= 0 && x < getWidth() && y < getHeight();
+		if (!isInBounds) {
+			return null;
+		}
+
+		final int contentX = x + scrollX;
+		final int contentY = y + scrollY;
+
+		final Node node = getIndex().findTopmost(contentX, contentY,
+				child -> child.nodeAt(contentX - child.getLayoutX(), contentY - child.getLayoutY()));
+		return node != null ? node : this;
+	}
+
+	@Override
+	public ScrollPane copy() {
+		final ScrollPane copy = (ScrollPane) super.copy();
+		copy.index = null;
+		copy.indexValid = false;
+		return copy;
+	}
+
+	private SpatialIndex getIndex() {
+		if (index == null) {
+			index = new SpatialIndex();
+		}
+		if (!indexValid) {
+			index.rebuild(getChildren());
+			indexValid = true;
+		}
+		return index;
+	}
+
+	private static int clamp(int value, int max) {
+		return Math.max(0, Math.min(value, max));
+	}
+
+}
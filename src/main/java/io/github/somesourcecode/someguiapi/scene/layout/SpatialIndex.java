@@ -0,0 +1,178 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.scene.layout;
+
+import io.github.somesourcecode.someguiapi.scene.Node;
+import io.github.somesourcecode.someguiapi.scene.Parent;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A uniform grid over the bounds of a list of nodes, used to find the
+ * nodes that cover a given point without visiting every node.
+ * <p>
+ * Nodes are stored by their index in the list they were built from, so
+ * every bucket is ordered from bottom-most to top-most node. Nodes whose
+ * bounds cannot be determined (non-clipping parents) or that would span too
+ * many cells are kept in a separate bucket that is consulted for every point.
+ *
+ * @since 2.2.0
+ */
+final class SpatialIndex {
+
+	private static final int CELL_SHIFT = 3;
+	private static final int MAX_CELLS_PER_NODE = 64;
+
+	private final HashMap<Long, Bucket> cells = new HashMap<>();
+	private final Bucket unbounded = new Bucket();
+
+	private Node[] nodes = new Node[0];
+
+	private int contentWidth;
+	private int contentHeight;
+
+	/**
+	 * Rebuilds the index from the bounds of the given nodes.
+	 *
+	 * @param children the nodes, ordered from bottom-most to top-most
+	 * @since 2.2.0
+	 */
+	void rebuild(List<Node> children) {
+		cells.clear();
+		unbounded.size = 0;
+		nodes = children.toArray(new Node[0]);
+		contentWidth = 0;
+		contentHeight = 0;
+
+		for (int i = 0; i < nodes.length; i++) {
+			final Node node = nodes[i];
+			final int minX = node.getLayoutX();
+			final int minY = node.getLayoutY();
+			final int maxX = minX + node.getWidth();
+			final int maxY = minY + node.getHeight();
+
+			contentWidth = Math.max(contentWidth, maxX);
+			contentHeight = Math.max(contentHeight, maxY);
+
+			if (node instanceof Parent && !node.isClipping()) {
+				unbounded.add(i);
+				continue;
+			}
+			if (maxX <= minX || maxY <= minY) {
+				continue;
+			}
+
+			final int minCellX = minX >> CELL_SHIFT;
+			final int minCellY = minY >> CELL_SHIFT;
+			final int maxCellX = (maxX - 1) >> CELL_SHIFT;
+			final int maxCellY = (maxY - 1) >> CELL_SHIFT;
+
+			if ((long) (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1) > MAX_CELLS_PER_NODE) {
+				unbounded.add(i);
+				continue;
+			}
+
+			for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+				for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+					cells.computeIfAbsent(key(cellX, cellY), k -> new Bucket()).add(i);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the width of the area covered by the indexed nodes,
+	 * measured from the origin.
+	 *
+	 * @return the content width
+	 * @since 2.2.0
+	 */
+	int getContentWidth() {
+		return contentWidth;
+	}
+
+	/**
+	 * Returns the height of the area covered by the indexed nodes,
+	 * measured from the origin.
+	 *
+	 * @return the content height
+	 * @since 2.2.0
+	 */
+	int getContentHeight() {
+		return contentHeight;
+	}
+
+	/**
+	 * Applies the given function to every node that may cover the given point,
+	 * from top-most to bottom-most, until the function returns a non-null result.
+	 *
+	 * @param x the x coordinate
+	 * @param y the y coordinate
+	 * @param function the function
+	 * @param <R> the type of the result
+	 * @return the first non-null result, or null if there is none
+	 * @since 2.2.0
+	 */
+	<R> R findTopmost(int x, int y, Function<? super Node, R> function) {
+		final Bucket cell = cells.get(key(x >> CELL_SHIFT, y >> CELL_SHIFT));
+
+		int i = cell == null ? -1 : cell.size - 1;
+		int j = unbounded.size - 1;
+		while (i >= 0 || j >= 0) {
+			final int index;
+			if (j < 0 || (i >= 0 && cell.indices[i] > unbounded.indices[j])) {
+				index = cell.indices[i--];
+			} else {
+				index = unbounded.indices[j--];
+			}
+			final R result = function.apply(nodes[index]);
+			if (result != null) {
+				return result;
+			}
+		}
+		return null;
+	}
+
+	private static long key(int cellX, int cellY) {
+		return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+	}
+
+	private static final class Bucket {
+
+		private int[] indices = new int[4];
+		private int size;
+
+		private void add(int index) {
+			if (size == indices.length) {
+				indices = Arrays.copyOf(indices, size * 2);
+			}
+			indices[size++] = index;
+		}
+
+	}
+
+}
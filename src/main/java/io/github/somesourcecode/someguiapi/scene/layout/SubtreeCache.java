@@ -0,0 +1,162 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.scene.layout;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Keeps track of the most recently shown subtrees of a group of {@link LazyPane}s,
+ * e.g. the tabs of a menu.
+ * <p>
+ * Whenever a lazy pane that uses this cache shows its subtree, it becomes the most
+ * recently used pane. If more panes than the capacity of the cache hold a subtree,
+ * the subtrees of the least recently used panes that are not currently showing are evicted.
+ * <p>
+ * Panes are only weakly referenced, so a shared cache does not keep the panes of closed menus alive.
+ * Panes whose content was reclaimed by the garbage collector no longer count towards the capacity.
+ *
+ * @since 2.2.0
+ */
+public class SubtreeCache {
+
+	private final List<WeakReference<LazyPane>> panes = new ArrayList<>();
+
+	private int capacity;
+
+	/**
+	 * Constructs a new subtree cache with the given capacity.
+	 *
+	 * @param capacity the maximum number of subtrees that are kept
+	 * @throws IllegalArgumentException if the capacity is less than 1
+	 * @since 2.2.0
+	 */
+	public SubtreeCache(int capacity) {
+		setCapacity(capacity);
+	}
+
+	/**
+	 * Returns the maximum number of subtrees that are kept.
+	 *
+	 * @return the capacity
+	 * @since 2.2.0
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Sets the maximum number of subtrees that are kept.
+	 * If the cache holds more subtrees, the least recently used ones are evicted.
+	 *
+	 * @param capacity the capacity
+	 * @throws IllegalArgumentException if the capacity is less than 1
+	 * @since 2.2.0
+	 */
+	public void setCapacity(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be at least 1");
+		}
+		this.capacity = capacity;
+		trim();
+	}
+
+	/**
+	 * Returns the number of panes that currently hold a subtree.
+	 *
+	 * @return the number of cached subtrees
+	 * @since 2.2.0
+	 */
+	public int size() {
+		expunge();
+		return panes.size();
+	}
+
+	/**
+	 * Evicts the subtrees of all panes that are not currently showing.
+	 *
+	 * @since 2.2.0
+	 */
+	public void clear() {
+		expunge();
+		for (WeakReference<LazyPane> reference : new ArrayList<>(panes)) {
+			final LazyPane pane = reference.get();
+			if (pane != null && !pane.isShowing()) {
+				pane.evict();
+			}
+		}
+	}
+
+	/**
+	 * Marks the specified pane as the most recently used one.
+	 *
+	 * @param pane the pane
+	 * @since 2.2.0
+	 */
+	void touch(LazyPane pane) {
+		remove(pane);
+		panes.add(new WeakReference<>(pane));
+		trim();
+	}
+
+	/**
+	 * Removes the specified pane from this cache without evicting it.
+	 *
+	 * @param pane the pane
+	 * @since 2.2.0
+	 */
+	void remove(LazyPane pane) {
+		panes.removeIf(reference -> reference.get() == pane);
+	}
+
+	private void trim() {
+		expunge();
+		final List<LazyPane> evicted = new ArrayList<>();
+		final Iterator<WeakReference<LazyPane>> iterator = panes.iterator();
+		int size = panes.size();
+		while (size > capacity && iterator.hasNext()) {
+			final LazyPane pane = iterator.next().get();
+			if (pane == null || pane.isShowing()) {
+				continue;
+			}
+			iterator.remove();
+			evicted.add(pane);
+			size--;
+		}
+		evicted.forEach(LazyPane::evict);
+	}
+
+	/**
+	 * Removes the panes that were collected or whose content was collected.
+	 */
+	private void expunge() {
+		panes.removeIf(reference -> {
+			final LazyPane pane = reference.get();
+			return pane == null || !pane.isLoaded();
+		});
+	}
+
+}
@@ -0,0 +1,69 @@
+package io.github.somesourcecode.someguiapi.scene.lore;
+
+import net.kyori.adventure.text.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The base class for paragraphs whose lines only change when one of their setters is called.
+ * <p>
+ * The lines are created once and returned from a cache until the paragraph is {@link #markModified() modified}.
+ * Every modification increments the {@link #getModificationStamp() modification stamp}, which lets a
+ * {@link Lore} detect whether it has to regenerate its lines.
+ *
+ * @since 2.2.0
+ */
+public abstract class AbstractParagraph implements Paragraph {
+
+	private long modificationStamp;
+	private List<Component> lines;
+
+	/**
+	 * Constructs a new paragraph.
+	 *
+	 * @since 2.2.0
+	 */
+	protected AbstractParagraph() {
+
+	}
+
+	/**
+	 * Creates the lines of the paragraph. This is only called if the paragraph
+	 * has been modified since the lines were last created.
+	 *
+	 * @return the lines of the paragraph
+	 * @since 2.2.0
+	 */
+	protected abstract List<Component> createLines();
+
+	/**
+	 * Marks the paragraph as modified, so the lines are created again the next time they are requested.
+	 * This must be called by every method that changes the lines of the paragraph.
+	 *
+	 * @since 2.2.0
+	 */
+	protected final void markModified() {
+		modificationStamp++;
+		lines = null;
+	}
+
+	@Override
+	public long getModificationStamp() {
+		return modificationStamp;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The returned list is unmodifiable and cached until the paragraph is modified.
+	 */
+	@Override
+	public List<Component> getLines() {
+		if (lines == null) {
+			lines = Collections.unmodifiableList(createLines());
+		}
+		return lines;
+	}
+
+}
@@ -11,7 +11,7 @@ import java.util.List;
  * @since 2.0.0
  * @since 2.0.0
  */
-public class BlankParagraph implements Paragraph {
+public class BlankParagraph extends AbstractParagraph {
 
 	private int space;
 
@@ -53,11 +53,12 @@ public class BlankParagraph implements Paragraph {
 	 */
 	public BlankParagraph setSpace(int space) {
 		this.space = space;
+		markModified();
 		return this;
 	}
 
 	@Override
-	public List<Component> getLines() {
+	protected List<Component> createLines() {
 		if (space <= 0) {
 			return Collections.emptyList();
 		}
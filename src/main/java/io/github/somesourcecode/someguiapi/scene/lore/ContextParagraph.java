@@ -1,6 +1,8 @@
 package io.github.somesourcecode.someguiapi.scene.lore;
 
+import io.github.somesourcecode.someguiapi.scene.context.DependencyTracker;
 import io.github.somesourcecode.someguiapi.scene.context.PixelRenderContext;
+import io.github.somesourcecode.someguiapi.scene.context.RenderDependency;
 import net.kyori.adventure.text.Component;
 
 import java.util.Collections;
@@ -9,6 +11,10 @@ import java.util.function.Function;
 
 /**
  * The basic implementation of a {@link ReloadableParagraph}.
+ * <p>
+ * By default, the content generator is called on every reload. If the content only depends on
+ * certain data, the paragraph can declare {@link RenderDependency dependencies}. The generator is
+ * then only called again once the version of one of the dependencies changes.
  *
  * @since 2.0.0
  */
@@ -17,6 +23,11 @@ public class ContextParagraph implements ReloadableParagraph {
 	private Function<? super PixelRenderContext, Paragraph> contentGenerator;
 	private Paragraph paragraph;
 
+	private DependencyTracker dependencies;
+
+	private long modificationStamp;
+	private long paragraphStamp;
+
 	/**
 	 * Constructs a new empty context paragraph.
 	 *
@@ -36,6 +47,20 @@ public class ContextParagraph implements ReloadableParagraph {
 		this.contentGenerator = contentGenerator;
 	}
 
+	/**
+	 * Constructs a new context paragraph with the given content generator and dependencies.
+	 *
+	 * @param contentGenerator the content generator
+	 * @param dependencies the dependencies of the content
+	 * @throws IllegalArgumentException if one of the dependencies is null
+	 * @see #setDependencies(RenderDependency...)
+	 * @since 2.2.0
+	 */
+	public ContextParagraph(Function<? super PixelRenderContext, Paragraph> contentGenerator, RenderDependency... dependencies) {
+		this.contentGenerator = contentGenerator;
+		setDependencies(dependencies);
+	}
+
 	/**
 	 * Sets the content generator of the paragraph.
 	 *
@@ -45,16 +70,56 @@ public class ContextParagraph implements ReloadableParagraph {
 	 */
 	public ContextParagraph setContentGenerator(Function<? super PixelRenderContext, Paragraph> paragraphGenerator) {
 		this.contentGenerator = paragraphGenerator;
+		if (dependencies != null) {
+			dependencies.invalidate();
+		}
+		return this;
+	}
+
+	/**
+	 * Sets the dependencies of the content. The content generator is only called again if
+	 * the version of one of the dependencies has changed since the last reload.
+	 * Passing no dependencies generates the content once and reuses it afterwards.
+	 * Passing null calls the content generator on every reload, which is the default.
+	 *
+	 * @param dependencies the dependencies, or null to disable dependency tracking
+	 * @return the paragraph for method chaining
+	 * @throws IllegalArgumentException if one of the dependencies is null
+	 * @since 2.2.0
+	 */
+	public ContextParagraph setDependencies(RenderDependency... dependencies) {
+		this.dependencies = dependencies == null ? null : new DependencyTracker(dependencies);
 		return this;
 	}
 
 	@Override
 	public void reload(PixelRenderContext context) {
-		if (contentGenerator == null) {
-			paragraph = null;
+		if (dependencies != null && !dependencies.update(context)) {
 			return;
 		}
-		this.paragraph = contentGenerator.apply(context);
+		this.paragraph = contentGenerator == null ? null : contentGenerator.apply(context);
+		modificationStamp++;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The stamp changes whenever the content is generated again or the generated paragraph is modified.
+	 */
+	@Override
+	public long getModificationStamp() {
+		if (paragraph == null) {
+			return modificationStamp;
+		}
+		final long stamp = paragraph.getModificationStamp();
+		if (stamp < 0) {
+			return -1;
+		}
+		if (stamp != paragraphStamp) {
+			paragraphStamp = stamp;
+			modificationStamp++;
+		}
+		return modificationStamp;
 	}
 
 	@Override
@@ -12,7 +12,7 @@ import java.util.List;
  *
  * @since 2.0.0
  */
-public class DividerParagraph implements Paragraph {
+public class DividerParagraph extends AbstractParagraph {
 
 	private int length;
 	private TextColor color;
@@ -82,6 +82,34 @@ public class DividerParagraph implements Paragraph {
 	 */
 	public DividerParagraph setLength(int length) {
 		this.length = length;
+		markModified();
+		return this;
+	}
+
+	/**
+	 * Returns the width of the divider in pixels.
+	 *
+	 * @return the width of the divider in pixels
+	 * @see TextMeasurer
+	 * @since 2.2.0
+	 */
+	public int getWidth() {
+		return Math.max(0, length) * TextMeasurer.getWidth(' ', bold);
+	}
+
+	/**
+	 * Sets the length of the divider so that it is as wide as possible without
+	 * exceeding the given width in pixels. The width depends on whether the divider is bold,
+	 * so this should be called after {@link #setBold(boolean)}.
+	 *
+	 * @param width the maximum width of the divider in pixels
+	 * @return the paragraph for method chaining
+	 * @see TextMeasurer
+	 * @since 2.2.0
+	 */
+	public DividerParagraph setWidth(int width) {
+		this.length = Math.max(0, width) / TextMeasurer.getWidth(' ', bold);
+		markModified();
 		return this;
 	}
 
@@ -104,6 +132,7 @@ public class DividerParagraph implements Paragraph {
 	 */
 	public DividerParagraph setColor(TextColor color) {
 		this.color = color;
+		markModified();
 		return this;
 	}
 
@@ -126,11 +155,12 @@ public class DividerParagraph implements Paragraph {
 	 */
 	public DividerParagraph setBold(boolean bold) {
 		this.bold = bold;
+		markModified();
 		return this;
 	}
 
 	@Override
-	public List<Component> getLines() {
+	protected List<Component> createLines() {
 		if (length <= 0) {
 			return Collections.singletonList(Component.empty());
 		}
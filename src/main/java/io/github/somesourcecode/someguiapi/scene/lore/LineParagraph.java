@@ -10,7 +10,7 @@ import java.util.List;
  *
  * @since 2.0.0
  */
-public class LineParagraph implements Paragraph {
+public class LineParagraph extends AbstractParagraph {
 
 	private Component line;
 
@@ -43,11 +43,12 @@ public class LineParagraph implements Paragraph {
 	 */
 	public LineParagraph setLine(Component line) {
 		this.line = line;
+		markModified();
 		return this;
 	}
 
 	@Override
-	public List<Component> getLines() {
+	protected List<Component> createLines() {
 		if (line == null) {
 			return Collections.emptyList();
 		}
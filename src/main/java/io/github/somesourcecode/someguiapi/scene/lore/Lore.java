@@ -2,26 +2,45 @@ package io.github.somesourcecode.someguiapi.scene.lore;
 
 import io.github.somesourcecode.someguiapi.scene.context.PixelRenderContext;
 import io.github.somesourcecode.someguiapi.scene.context.RenderContext;
+import io.github.somesourcecode.someguiapi.scene.context.RenderDependency;
+import io.github.somesourcecode.someguiapi.util.ComponentUtil;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.translation.GlobalTranslator;
 
-import java.security.PrivilegedAction;
+import java.lang.ref.WeakReference;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
  * Represents the text which is shown below the title on hover.
+ * <p>
+ * Lores that are shared by many items can be {@link #freeze() frozen}. Modifying a
+ * frozen lore throws an {@link UnsupportedOperationException}.
  *
  * @since 2.0.0
  */
 public class Lore {
 
+	private static final Map<List<Component>, WeakReference<Lore>> INTERN_POOL = new WeakHashMap<>();
+
 	private final List<Paragraph> paragraphs = new ArrayList<>();
 
 	private final HashMap<TextDecoration, Boolean> decorations = new HashMap<>();
 
+	private Map<TextDecoration, TextDecoration.State> decorationStates;
+	private final List<List<Component>> paragraphLines = new ArrayList<>();
+	private final List<List<Component>> paragraphSources = new ArrayList<>();
+	private long[] paragraphStamps;
+	private List<Component> cachedLines;
+	private int bytesSaved = -1;
+	private boolean frozen;
+
+	private List<Component> translatedSource;
+	private final Map<Locale, List<Component>> translatedLines = new HashMap<>();
+
 	/**
 	 * Adds a decoration override to the lore.
 	 * Every line will have the given decoration applied.
@@ -32,7 +51,9 @@ public class Lore {
 	 * @since 2.0.0
 	 */
 	public Lore setDecoration(TextDecoration decoration, boolean value) {
+		checkNotFrozen();
 		decorations.put(decoration, value);
+		invalidate();
 		return this;
 	}
 
@@ -44,7 +65,9 @@ public class Lore {
 	 * @since 2.0.0
 	 */
 	public Lore unsetDecoration(TextDecoration decoration) {
+		checkNotFrozen();
 		decorations.remove(decoration);
+		invalidate();
 		return this;
 	}
 
@@ -57,8 +80,10 @@ public class Lore {
 	 * @since 2.0.0
 	 */
 	public Lore setParagraphs(List<Paragraph> paragraphs) {
+		checkNotFrozen();
 		this.paragraphs.clear();
 		this.paragraphs.addAll(paragraphs);
+		invalidate();
 		return this;
 	}
 
@@ -114,6 +139,20 @@ public class Lore {
 		return appendParagraph(Paragraph.context(paragraphGenerator));
 	}
 
+	/**
+	 * Appends a context paragraph that is only generated again when one of the given dependencies changes.
+	 * This is a shorthand for {@link #appendParagraph(Paragraph)} with a context paragraph.
+	 *
+	 * @param paragraphGenerator the paragraph generator
+	 * @param dependencies the dependencies of the content
+	 * @return the lore for method chaining
+	 * @throws IllegalArgumentException if one of the dependencies is null
+	 * @since 2.2.0
+	 */
+	public Lore appendParagraph(Function<? super PixelRenderContext, Paragraph> paragraphGenerator, RenderDependency... dependencies) {
+		return appendParagraph(Paragraph.context(paragraphGenerator, dependencies));
+	}
+
 	/**
 	 * Appends a paragraph to the lore.
 	 *
@@ -122,7 +161,9 @@ public class Lore {
 	 * @since 2.0.0
 	 */
 	public Lore appendParagraph(Paragraph paragraph) {
+		checkNotFrozen();
 		paragraphs.add(paragraph);
+		invalidate();
 		return this;
 	}
 
@@ -148,7 +189,9 @@ public class Lore {
 	 * @since 2.0.0
 	 */
 	public Lore appendParagraphs(List<Paragraph> paragraphs) {
+		checkNotFrozen();
 		this.paragraphs.addAll(paragraphs);
+		invalidate();
 		return this;
 	}
 
@@ -210,33 +253,234 @@ public class Lore {
 	 * @since 2.0.0
 	 */
 	public Lore clear() {
+		checkNotFrozen();
 		paragraphs.clear();
+		invalidate();
 		return this;
 	}
 
 	/**
 	 * Generates the lines of the lore. This is used for the rendering process.
+	 * <p>
+	 * The decorated lines of every paragraph that tracks its {@link Paragraph#getModificationStamp() modifications}
+	 * are cached, so only modified paragraphs and paragraphs that do not track modifications are generated again.
+	 * Reloadable paragraphs are reloaded first, so they can report their new stamp.
+	 * If no paragraph changed, the previously generated lines are returned.
+	 * <p>
+	 * The lines are {@link ComponentUtil#compact(Component) compacted} before they are cached,
+	 * which keeps the serialized lore small. See {@link #getBytesSaved()}.
+	 * <p>
+	 * If the context has a {@link PixelRenderContext#getLocale() locale}, the lines are translated
+	 * with the {@link GlobalTranslator}. The translated lines are cached for every locale until the lines change.
 	 *
 	 * @param context the render context
 	 * @return the lines of the lore
 	 * @since 2.0.0
 	 */
 	public List<Component> generateLines(PixelRenderContext context) {
-		paragraphs.stream()
-				.filter(ReloadableParagraph.class::isInstance)
-				.map(ReloadableParagraph.class::cast)
-				.forEach(paragraph -> paragraph.reload(context));
-		return paragraphs.stream()
-				.filter(Objects::nonNull)
-				.map(Paragraph::getLines)
-				.flatMap(List::stream)
-				.map(line -> {
-					for (Map.Entry<TextDecoration, Boolean> entry : decorations.entrySet()) {
-						line = line.decoration(entry.getKey(), entry.getValue());
-					}
-					return line;
-				})
-				.toList();
+		final List<Component> lines = frozen ? cachedLines : generateUntranslatedLines(context);
+		final Locale locale = context == null ? null : context.getLocale();
+		return locale == null ? lines : translate(lines, locale);
+	}
+
+	private List<Component> generateUntranslatedLines(PixelRenderContext context) {
+		for (Paragraph paragraph : paragraphs) {
+			if (paragraph instanceof ReloadableParagraph reloadableParagraph) {
+				reloadableParagraph.reload(context);
+			}
+		}
+
+		if (paragraphStamps == null || paragraphStamps.length != paragraphs.size()) {
+			paragraphStamps = new long[paragraphs.size()];
+			Arrays.fill(paragraphStamps, -1);
+			paragraphLines.clear();
+			paragraphLines.addAll(Collections.nCopies(paragraphs.size(), null));
+			paragraphSources.clear();
+			paragraphSources.addAll(Collections.nCopies(paragraphs.size(), null));
+			cachedLines = null;
+		}
+		if (decorationStates == null) {
+			decorationStates = new EnumMap<>(TextDecoration.class);
+			for (Map.Entry<TextDecoration, Boolean> entry : decorations.entrySet()) {
+				decorationStates.put(entry.getKey(), TextDecoration.State.byBoolean(entry.getValue()));
+			}
+		}
+
+		boolean changed = cachedLines == null;
+		int size = 0;
+		for (int i = 0; i < paragraphs.size(); i++) {
+			final Paragraph paragraph = paragraphs.get(i);
+			final long stamp = paragraph == null ? 0 : paragraph.getModificationStamp();
+			final boolean reusable = stamp >= 0;
+			if (!reusable || paragraphStamps[i] != stamp) {
+				final List<Component> source = paragraph == null ? Collections.emptyList() : paragraph.getLines();
+				paragraphSources.set(i, source);
+				paragraphLines.set(i, compact(decorate(source)));
+				paragraphStamps[i] = reusable ? stamp : -1;
+				changed = true;
+			}
+			size += paragraphLines.get(i).size();
+		}
+		if (!changed) {
+			return cachedLines;
+		}
+
+		final List<Component> lines = new ArrayList<>(size);
+		for (List<Component> linesOfParagraph : paragraphLines) {
+			lines.addAll(linesOfParagraph);
+		}
+		cachedLines = Collections.unmodifiableList(lines);
+		bytesSaved = -1;
+		return cachedLines;
+	}
+
+	/**
+	 * Returns an immutable lore with the same lines as this lore.
+	 * <p>
+	 * Frozen lores are interned: freezing two lores that generate equal lines returns the same instance,
+	 * as long as that instance is still referenced somewhere. Items that share a lore block can
+	 * therefore share a single instance and its lines, and caches can compare frozen lores by identity.
+	 * The lines are generated once when the lore is frozen, so paragraphs that change afterwards are
+	 * not reflected. This lore itself stays mutable.
+	 *
+	 * @return the frozen lore, or this lore if it is already frozen
+	 * @throws IllegalStateException if the lore contains a {@link ReloadableParagraph}
+	 * @since 2.2.0
+	 */
+	public Lore freeze() {
+		if (frozen) {
+			return this;
+		}
+		for (Paragraph paragraph : paragraphs) {
+			if (paragraph instanceof ReloadableParagraph) {
+				throw new IllegalStateException("Cannot freeze a lore with reloadable paragraphs");
+			}
+		}
+
+		final List<Component> lines = generateLines(null);
+		synchronized (INTERN_POOL) {
+			final WeakReference<Lore> reference = INTERN_POOL.get(lines);
+			final Lore interned = reference == null ? null : reference.get();
+			if (interned != null) {
+				return interned;
+			}
+			final Lore frozenLore = new Lore();
+			frozenLore.cachedLines = lines;
+			frozenLore.frozen = true;
+			INTERN_POOL.put(lines, new WeakReference<>(frozenLore));
+			return frozenLore;
+		}
+	}
+
+	/**
+	 * Returns whether this lore is frozen. Frozen lores cannot be modified.
+	 *
+	 * @return whether this lore is frozen
+	 * @see #freeze()
+	 * @since 2.2.0
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	/**
+	 * Creates a copy of this lore with the same paragraphs and decoration overrides.
+	 * The paragraphs themselves are shared with the copy.
+	 * Frozen lores cannot be modified, so they are returned as they are.
+	 *
+	 * @return the copy of this lore, or this lore if it is frozen
+	 * @since 2.2.0
+	 */
+	public Lore copy() {
+		if (frozen) {
+			return this;
+		}
+		final Lore copy = new Lore();
+		copy.paragraphs.addAll(paragraphs);
+		copy.decorations.putAll(decorations);
+		return copy;
+	}
+
+	/**
+	 * Returns the number of bytes that the compaction saved on the
+	 * {@link ComponentUtil#getSerializedSize(Component) serialized size} of the last generated lines.
+	 * The value is measured on the first call after the lines changed, so
+	 * calling this method does not add any cost to the rendering process itself.
+	 *
+	 * @return the number of bytes saved, or 0 if no lines have been generated yet
+	 * @since 2.2.0
+	 */
+	public int getBytesSaved() {
+		if (cachedLines == null) {
+			return 0;
+		}
+		if (bytesSaved < 0) {
+			int saved = 0;
+			for (int i = 0; i < paragraphLines.size(); i++) {
+				for (Component line : decorate(paragraphSources.get(i))) {
+					saved += ComponentUtil.getSerializedSize(line);
+				}
+				for (Component line : paragraphLines.get(i)) {
+					saved -= ComponentUtil.getSerializedSize(line);
+				}
+			}
+			bytesSaved = saved;
+		}
+		return bytesSaved;
+	}
+
+	/**
+	 * Applies the decoration overrides of the lore to the given lines.
+	 */
+	private List<Component> decorate(List<Component> lines) {
+		if (decorationStates.isEmpty()) {
+			return lines;
+		}
+		final List<Component> decorated = new ArrayList<>(lines.size());
+		for (Component line : lines) {
+			decorated.add(line.decorations(decorationStates));
+		}
+		return decorated;
+	}
+
+	private List<Component> translate(List<Component> lines, Locale locale) {
+		if (translatedSource != lines) {
+			translatedSource = lines;
+			translatedLines.clear();
+		}
+		return translatedLines.computeIfAbsent(locale, key -> {
+			final List<Component> translated = new ArrayList<>(lines.size());
+			for (Component line : lines) {
+				translated.add(ComponentUtil.compact(GlobalTranslator.render(line, key)));
+			}
+			return Collections.unmodifiableList(translated);
+		});
+	}
+
+	/**
+	 * Compacts the given lines.
+	 */
+	private static List<Component> compact(List<Component> lines) {
+		final List<Component> compacted = new ArrayList<>(lines.size());
+		for (Component line : lines) {
+			compacted.add(ComponentUtil.compact(line));
+		}
+		return compacted;
+	}
+
+	private void checkNotFrozen() {
+		if (frozen) {
+			throw new UnsupportedOperationException("Cannot modify a frozen lore");
+		}
+	}
+
+	private void invalidate() {
+		decorationStates = null;
+		paragraphStamps = null;
+		paragraphLines.clear();
+		paragraphSources.clear();
+		cachedLines = null;
+		bytesSaved = -1;
 	}
 
 }
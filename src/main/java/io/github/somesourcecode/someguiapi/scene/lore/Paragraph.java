@@ -1,6 +1,7 @@
 package io.github.somesourcecode.someguiapi.scene.lore;
 
 import io.github.somesourcecode.someguiapi.scene.context.PixelRenderContext;
+import io.github.somesourcecode.someguiapi.scene.context.RenderDependency;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 
@@ -22,6 +23,21 @@ public interface Paragraph {
 	 */
 	List<Component> getLines();
 
+	/**
+	 * Returns the modification stamp of the paragraph. The stamp changes whenever the
+	 * lines of the paragraph change, so lines generated for an unchanged stamp can be reused.
+	 * <p>
+	 * A negative stamp means that changes are not tracked, and the lines have to be
+	 * requested again every time. This is the default.
+	 *
+	 * @return the modification stamp, or a negative value if changes are not tracked
+	 * @see AbstractParagraph
+	 * @since 2.2.0
+	 */
+	default long getModificationStamp() {
+		return -1;
+	}
+
 	/**
 	 * Constructs a new text paragraph with the given content.
 	 *
@@ -122,4 +138,18 @@ public interface Paragraph {
 		return new ContextParagraph(paragraphGenerator);
 	}
 
+	/**
+	 * Constructs a new context paragraph with the given paragraph generator that is only
+	 * generated again when one of the given dependencies changes.
+	 *
+	 * @param paragraphGenerator the paragraph generator
+	 * @param dependencies the dependencies of the content
+	 * @return the context paragraph
+	 * @throws IllegalArgumentException if one of the dependencies is null
+	 * @since 2.2.0
+	 */
+	static ContextParagraph context(Function<? super PixelRenderContext, Paragraph> paragraphGenerator, RenderDependency... dependencies) {
+		return new ContextParagraph(paragraphGenerator, dependencies);
+	}
+
 }
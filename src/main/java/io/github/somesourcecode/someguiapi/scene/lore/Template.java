@@ -0,0 +1,345 @@
+package io.github.somesourcecode.someguiapi.scene.lore;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * A text template in the MiniMessage format that is parsed once and rendered with different values.
+ * <p>
+ * The placeholders of a template are typed {@link Hole holes}, which are written as tags in the format:
+ * <pre>{@code
+ * private static final Template.Hole<Integer> PRICE = Template.hole("price", price -> Component.text(price + "$"));
+ * private static final Template PRICE_LINE = Template.compile("<gray>Price: <gold><price>", PRICE);
+ *
+ * item.setDynamicTitle(context -> PRICE_LINE.arguments().set(PRICE, getPrice()).render());
+ * }</pre>
+ * Rendering substitutes the values into the parsed component tree. Only the components on the way from the
+ * root to a hole are rebuilt; all other components are shared between renders. The formatted value of every
+ * hole and the last rendered component are reused as long as the values are equal.
+ * <p>
+ * Holes are only supported in the content of the template, not in hover or click events.
+ *
+ * @since 2.2.0
+ */
+public final class Template {
+
+	private static final String HOLE_KEY_PREFIX = "someguiapi.template.hole.";
+	private static final Pattern HOLE_NAME = Pattern.compile("[a-z0-9_-]+");
+
+	private final String format;
+	private final Hole<?>[] holes;
+	private final Component component;
+	private final PathNode paths;
+
+	private volatile Rendered lastRendered;
+
+	private Template(String format, Hole<?>[] holes, Component component, PathNode paths) {
+		this.format = format;
+		this.holes = holes;
+		this.component = component;
+		this.paths = paths;
+	}
+
+	/**
+	 * Compiles the given MiniMessage format into a template with the given holes.
+	 *
+	 * @param format the format in MiniMessage syntax
+	 * @param holes the holes of the template
+	 * @return the compiled template
+	 * @throws IllegalArgumentException if the format is null or the holes are invalid
+	 * @since 2.2.0
+	 */
+	public static Template compile(String format, Hole<?>... holes) {
+		if (format == null) {
+			throw new IllegalArgumentException("Format cannot be null");
+		}
+		final Set<String> names = new HashSet<>();
+		final List<TagResolver> resolvers = new ArrayList<>(holes.length + 1);
+		resolvers.add(TagResolver.standard());
+		for (int i = 0; i < holes.length; i++) {
+			if (holes[i] == null) {
+				throw new IllegalArgumentException("Hole cannot be null");
+			}
+			if (!names.add(holes[i].name)) {
+				throw new IllegalArgumentException("Duplicate hole: " + holes[i].name);
+			}
+			resolvers.add(TagResolver.resolver(holes[i].name, Tag.selfClosingInserting(Component.translatable(HOLE_KEY_PREFIX + i))));
+		}
+
+		// Components are not compacted, so every hole stays a separate component
+		final MiniMessage miniMessage = MiniMessage.builder()
+				.tags(TagResolver.resolver(resolvers))
+				.postProcessor(UnaryOperator.identity())
+				.build();
+		final Component component = miniMessage.deserialize(format);
+		return new Template(format, holes.clone(), component, PathNode.of(component));
+	}
+
+	/**
+	 * Creates a hole with the given name whose values are formatted by the given function.
+	 *
+	 * @param name the name of the hole, which is used as the tag in the format
+	 * @param formatter the function that formats the values of the hole
+	 * @param <T> the type of the values
+	 * @return the hole
+	 * @throws IllegalArgumentException if the name is not a valid tag name or the formatter is null
+	 * @since 2.2.0
+	 */
+	public static <T> Hole<T> hole(String name, Function<? super T, ? extends ComponentLike> formatter) {
+		return new Hole<>(name, formatter);
+	}
+
+	/**
+	 * Creates a hole with the given name whose values are inserted as text.
+	 *
+	 * @param name the name of the hole, which is used as the tag in the format
+	 * @return the hole
+	 * @throws IllegalArgumentException if the name is not a valid tag name
+	 * @since 2.2.0
+	 */
+	public static Hole<Object> text(String name) {
+		return new Hole<>(name, value -> Component.text(String.valueOf(value)));
+	}
+
+	/**
+	 * Creates a hole with the given name whose values are inserted as they are.
+	 *
+	 * @param name the name of the hole, which is used as the tag in the format
+	 * @return the hole
+	 * @throws IllegalArgumentException if the name is not a valid tag name
+	 * @since 2.2.0
+	 */
+	public static Hole<ComponentLike> component(String name) {
+		return new Hole<>(name, Function.identity());
+	}
+
+	/**
+	 * Returns the format of the template.
+	 *
+	 * @return the format
+	 * @since 2.2.0
+	 */
+	public String getFormat() {
+		return format;
+	}
+
+	/**
+	 * Returns new, empty arguments for this template.
+	 *
+	 * @return the arguments
+	 * @since 2.2.0
+	 */
+	public Arguments arguments() {
+		return new Arguments(this);
+	}
+
+	/**
+	 * Renders the template with the given arguments. Holes without a value are left empty.
+	 *
+	 * @param arguments the arguments
+	 * @return the rendered component
+	 * @throws IllegalArgumentException if the arguments belong to a different template
+	 * @since 2.2.0
+	 */
+	public Component render(Arguments arguments) {
+		if (arguments == null || arguments.template != this) {
+			throw new IllegalArgumentException("Arguments do not belong to this template");
+		}
+		final Rendered last = lastRendered;
+		if (last != null && Arrays.equals(last.values, arguments.values)) {
+			return last.component;
+		}
+
+		final Object[] values = arguments.values.clone();
+		final Component[] formatted = new Component[values.length];
+		for (int i = 0; i < values.length; i++) {
+			if (last != null && Objects.equals(last.values[i], values[i])) {
+				formatted[i] = last.formatted[i];
+			} else {
+				formatted[i] = values[i] == null ? Component.empty() : holes[i].format(values[i]);
+			}
+		}
+		final Component rendered = paths == null ? component : paths.render(component, formatted);
+		lastRendered = new Rendered(values, formatted, rendered);
+		return rendered;
+	}
+
+	private int indexOf(Hole<?> hole) {
+		for (int i = 0; i < holes.length; i++) {
+			if (holes[i] == hole) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("Hole " + hole + " does not belong to this template");
+	}
+
+	@Override
+	public String toString() {
+		return "Template[" + format + "]";
+	}
+
+	/**
+	 * A typed placeholder in a {@link Template}.
+	 *
+	 * @param <T> the type of the values of the hole
+	 * @since 2.2.0
+	 */
+	public static final class Hole<T> {
+
+		private final String name;
+		private final Function<? super T, ? extends ComponentLike> formatter;
+
+		private Hole(String name, Function<? super T, ? extends ComponentLike> formatter) {
+			if (name == null || !HOLE_NAME.matcher(name).matches()) {
+				throw new IllegalArgumentException("Invalid hole name: " + name);
+			}
+			if (formatter == null) {
+				throw new IllegalArgumentException("Formatter cannot be null");
+			}
+			this.name = name;
+			this.formatter = formatter;
+		}
+
+		/**
+		 * Returns the name of the hole.
+		 *
+		 * @return the name
+		 * @since 2.2.0
+		 */
+		public String getName() {
+			return name;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Component format(Object value) {
+			final ComponentLike formatted = formatter.apply((T) value);
+			return formatted == null ? Component.empty() : formatted.asComponent();
+		}
+
+		@Override
+		public String toString() {
+			return "<" + name + ">";
+		}
+
+	}
+
+	/**
+	 * The values of the holes of a {@link Template} for a single render.
+	 *
+	 * @since 2.2.0
+	 */
+	public static final class Arguments {
+
+		private final Template template;
+		private final Object[] values;
+
+		private Arguments(Template template) {
+			this.template = template;
+			this.values = new Object[template.holes.length];
+		}
+
+		/**
+		 * Sets the value of the given hole.
+		 *
+		 * @param hole the hole
+		 * @param value the value, or null to leave the hole empty
+		 * @param <T> the type of the value
+		 * @return the arguments for method chaining
+		 * @throws IllegalArgumentException if the hole does not belong to the template
+		 * @since 2.2.0
+		 */
+		public <T> Arguments set(Hole<T> hole, T value) {
+			values[template.indexOf(hole)] = value;
+			return this;
+		}
+
+		/**
+		 * Renders the template with these arguments.
+		 *
+		 * @return the rendered component
+		 * @see Template#render(Arguments)
+		 * @since 2.2.0
+		 */
+		public Component render() {
+			return template.render(this);
+		}
+
+	}
+
+	private record Rendered(Object[] values, Component[] formatted, Component component) {
+
+	}
+
+	/**
+	 * A node in the tree of paths from the root component to the holes.
+	 * Only components on these paths are rebuilt when the template is rendered.
+	 */
+	private static final class PathNode {
+
+		private final int hole;
+		private final int[] childIndices;
+		private final PathNode[] children;
+
+		private PathNode(int hole, int[] childIndices, PathNode[] children) {
+			this.hole = hole;
+			this.childIndices = childIndices;
+			this.children = children;
+		}
+
+		/**
+		 * Returns the paths to the holes in the given component, or null if it contains no holes.
+		 */
+		private static PathNode of(Component component) {
+			if (component instanceof TranslatableComponent translatable && translatable.key().startsWith(HOLE_KEY_PREFIX)) {
+				return new PathNode(Integer.parseInt(translatable.key().substring(HOLE_KEY_PREFIX.length())), null, null);
+			}
+			final List<Component> componentChildren = component.children();
+			int[] indices = null;
+			PathNode[] nodes = null;
+			int count = 0;
+			for (int i = 0; i < componentChildren.size(); i++) {
+				final PathNode child = of(componentChildren.get(i));
+				if (child == null) {
+					continue;
+				}
+				if (indices == null) {
+					indices = new int[componentChildren.size()];
+					nodes = new PathNode[componentChildren.size()];
+				}
+				indices[count] = i;
+				nodes[count] = child;
+				count++;
+			}
+			return count == 0 ? null : new PathNode(-1, Arrays.copyOf(indices, count), Arrays.copyOf(nodes, count));
+		}
+
+		private Component render(Component component, Component[] values) {
+			if (hole >= 0) {
+				// The hole keeps the style that the format applied to its tag
+				return values[hole].applyFallbackStyle(component.style());
+			}
+			final List<Component> renderedChildren = new ArrayList<>(component.children());
+			for (int i = 0; i < childIndices.length; i++) {
+				final int index = childIndices[i];
+				renderedChildren.set(index, children[i].render(renderedChildren.get(index), values));
+			}
+			return component.children(renderedChildren);
+		}
+
+	}
+
+}
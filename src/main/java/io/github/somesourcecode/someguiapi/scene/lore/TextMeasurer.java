@@ -0,0 +1,184 @@
+package io.github.somesourcecode.someguiapi.scene.lore;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.TextDecoration;
+
+import java.text.Normalizer;
+import java.util.List;
+
+/**
+ * Measures the width of text in pixels as rendered by the default Minecraft font.
+ * <p>
+ * The widths of the glyphs of ASCII, Latin-1 and Latin Extended-A are stored in a precomputed table,
+ * so measuring text does not allocate. Accented letters have the width of their base letter.
+ * Outside of the table, common punctuation has its own width, combining marks and zero-width
+ * characters have no width, and CJK and fullwidth characters, which are rendered by the unicode font,
+ * are {@link #WIDE_WIDTH wide}. All other characters are assumed to have the {@link #DEFAULT_WIDTH default width},
+ * so text in other scripts is only measured approximately.
+ * Bold text is one pixel wider per character. Widths include the pixel of spacing after each glyph.
+ *
+ * @since 2.2.0
+ */
+public final class TextMeasurer {
+
+	/**
+	 * The width of characters that are not in the width table, which is also
+	 * the width of most letters and digits.
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int DEFAULT_WIDTH = 6;
+
+	/**
+	 * The width of CJK and fullwidth characters, which are rendered by the unicode font.
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int WIDE_WIDTH = 9;
+
+	private static final byte[] WIDTHS = new byte[0x180];
+
+	static {
+		for (int i = 0; i < WIDTHS.length; i++) {
+			WIDTHS[i] = DEFAULT_WIDTH;
+		}
+		setWidth(" ", 4);
+		setWidth("!',.:;i|", 2);
+		setWidth("`l", 3);
+		setWidth("\"I[]t", 4);
+		setWidth("(){}<>fk", 5);
+		setWidth("@~", 7);
+
+		// accented letters are as wide as their base letter
+		for (int i = 0xC0; i < WIDTHS.length; i++) {
+			final String decomposed = Normalizer.normalize(String.valueOf((char) i), Normalizer.Form.NFD);
+			if (decomposed.length() > 1 && decomposed.charAt(0) < 0x80) {
+				WIDTHS[i] = WIDTHS[decomposed.charAt(0)];
+			}
+		}
+		setWidth("\u00A1\u00A6\u00B7\u0131", 2);
+		setWidth("\u00B4\u00B8\u00B9\u00EC\u00ED", 3);
+		setWidth("\u00A8\u00B2\u00B3\u00EE\u00EF\u0142\u0140", 4);
+		setWidth("\u00AA\u00B0\u00BA", 5);
+		setWidth("\u00A9\u00AB\u00AE\u00B6\u00BB\u00BC\u00BD\u00BE\u00C6\u00E6\u0152\u0153", 7);
+
+		for (int i = 0; i < 0x20; i++) {
+			WIDTHS[i] = 0;
+		}
+		for (int i = 0x7F; i < 0xA0; i++) {
+			WIDTHS[i] = 0;
+		}
+		WIDTHS[0xAD] = 0;
+	}
+
+	private TextMeasurer() {
+
+	}
+
+	private static void setWidth(String characters, int width) {
+		for (int i = 0; i < characters.length(); i++) {
+			WIDTHS[characters.charAt(i)] = (byte) width;
+		}
+	}
+
+	/**
+	 * Returns the width of the given character in pixels.
+	 *
+	 * @param codePoint the code point of the character
+	 * @param bold whether the character is bold
+	 * @return the width of the character
+	 * @since 2.2.0
+	 */
+	public static int getWidth(int codePoint, boolean bold) {
+		final int width = codePoint >= 0 && codePoint < WIDTHS.length ? WIDTHS[codePoint] : getFallbackWidth(codePoint);
+		return bold && width > 0 ? width + 1 : width;
+	}
+
+	private static int getFallbackWidth(int codePoint) {
+		return switch (codePoint) {
+			case '\u200B', '\u200C', '\u200D', '\u2060', '\uFEFF' -> 0;
+			case '\u2018', '\u2019', '\u201A' -> 2;
+			case '\u2022' -> 3;
+			case '\u201C', '\u201D', '\u201E' -> 4;
+			case '\u2013' -> 7;
+			case '\u2026' -> 8;
+			case '\u2014' -> 9;
+			default -> getRangeWidth(codePoint);
+		};
+	}
+
+	private static int getRangeWidth(int codePoint) {
+		if (codePoint >= 0x0300 && codePoint < 0x0370) {
+			// combining diacritical marks are drawn over the previous character
+			return 0;
+		}
+		if ((codePoint >= 0x2E80 && codePoint < 0xA000)
+				|| (codePoint >= 0xAC00 && codePoint < 0xD7B0)
+				|| (codePoint >= 0xF900 && codePoint < 0xFB00)
+				|| (codePoint >= 0xFF01 && codePoint < 0xFF61)
+				|| (codePoint >= 0x20000 && codePoint < 0x30000)) {
+			return WIDE_WIDTH;
+		}
+		return DEFAULT_WIDTH;
+	}
+
+	/**
+	 * Returns the width of the given text in pixels.
+	 *
+	 * @param text the text
+	 * @param bold whether the text is bold
+	 * @return the width of the text
+	 * @since 2.2.0
+	 */
+	public static int getWidth(CharSequence text, boolean bold) {
+		return getWidth(text, 0, text.length(), bold);
+	}
+
+	/**
+	 * Returns the width of a range of the given text in pixels.
+	 *
+	 * @param text the text
+	 * @param start the index of the first character, inclusive
+	 * @param end the index of the last character, exclusive
+	 * @param bold whether the text is bold
+	 * @return the width of the range
+	 * @since 2.2.0
+	 */
+	public static int getWidth(CharSequence text, int start, int end, boolean bold) {
+		int width = 0;
+		for (int i = start; i < end; i++) {
+			final int codePoint = Character.codePointAt(text, i);
+			if (Character.isSupplementaryCodePoint(codePoint)) {
+				i++;
+			}
+			width += getWidth(codePoint, bold);
+		}
+		return width;
+	}
+
+	/**
+	 * Returns the width of the given component and its children in pixels.
+	 * Only the content of text components is measured.
+	 *
+	 * @param component the component
+	 * @return the width of the component
+	 * @since 2.2.0
+	 */
+	public static int getWidth(Component component) {
+		return getWidth(component, false);
+	}
+
+	private static int getWidth(Component component, boolean parentBold) {
+		final TextDecoration.State state = component.decoration(TextDecoration.BOLD);
+		final boolean bold = state == TextDecoration.State.NOT_SET ? parentBold : state == TextDecoration.State.TRUE;
+
+		int width = component instanceof TextComponent text ? getWidth(text.content(), bold) : 0;
+		final List<Component> children = component.children();
+		for (int i = 0; i < children.size(); i++) {
+			width += getWidth(children.get(i), bold);
+		}
+		return width;
+	}
+
+}
@@ -3,11 +3,13 @@ package io.github.somesourcecode.someguiapi.scene.lore;
 import io.github.somesourcecode.someguiapi.util.ComponentUtil;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextDecoration;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Stack;
 
 /**
  * A paragraph that contains text in form of a component.
@@ -15,7 +17,7 @@ import java.util.Stack;
  *
  * @since 2.0.0
  */
-public class TextParagraph implements Paragraph {
+public class TextParagraph extends AbstractParagraph {
 
 	/**
 	 * The default width at which the text should be wrapped.
@@ -75,6 +77,7 @@ public class TextParagraph implements Paragraph {
 	 */
 	public TextParagraph setContent(Component content) {
 		this.contentComponent = content;
+		markModified();
 		return this;
 	}
 
@@ -87,6 +90,7 @@ public class TextParagraph implements Paragraph {
 	 */
 	public TextParagraph append(Component component) {
 		this.contentComponent = this.contentComponent.append(component);
+		markModified();
 		return this;
 	}
 
@@ -109,6 +113,7 @@ public class TextParagraph implements Paragraph {
 	 */
 	public TextParagraph setWrapType(WrapType wrapType) {
 		this.wrapType = wrapType;
+		markModified();
 		return this;
 	}
 
@@ -124,6 +129,8 @@ public class TextParagraph implements Paragraph {
 
 	/**
 	 * Sets the width at which the text should be wrapped.
+	 * The width is given in characters. For {@link WrapType#PIXEL} it is converted to pixels
+	 * using the {@link TextMeasurer#DEFAULT_WIDTH width of an average character}.
 	 *
 	 * @param wrapWidth the wrap width
 	 * @return the paragraph for method chaining
@@ -131,11 +138,12 @@ public class TextParagraph implements Paragraph {
 	 */
 	public TextParagraph setWrapWidth(int wrapWidth) {
 		this.wrapWidth = wrapWidth;
+		markModified();
 		return this;
 	}
 
 	@Override
-	public List<Component> getLines() {
+	protected List<Component> createLines() {
 
 		if (contentComponent == null) {
 			return Collections.emptyList();
@@ -145,84 +153,328 @@ public class TextParagraph implements Paragraph {
 			return List.of(contentComponent);
 		}
 
-		Stack<Component> stack = new Stack<>();
-		stack.push(contentComponent);
+		final List<Run> runs = flatten(contentComponent);
+		if (wrapType == WrapType.PIXEL) {
+			return wrapByPixels(runs);
+		}
 
 		List<Component> renderedComponents = new ArrayList<>();
-		Component currentRenderedComponent = null;
+		List<Component> currentLine = new ArrayList<>();
 
 		int currentWidth = 0;
-		while (!stack.isEmpty()) {
-			Component currentComponent = stack.pop();
+		int runIndex = 0;
+		// The text of a run that does not fit is continued from this offset on the next line
+		int offset = 0;
+		boolean remainder = false;
+		while (runIndex < runs.size()) {
+			final Run run = runs.get(runIndex);
+
+			if (run.content == null) {
+				appendPart(currentLine, ComponentUtil.copyComponent(run.component, false));
+				runIndex++;
+				continue;
+			}
 
-			List<Component> children = currentComponent.children();
-			for (int i = children.size() - 1; i >= 0; i--) {
-				stack.push(children.get(i));
+			final String content = run.content;
+			int start = offset;
+			// Leading whitespace is dropped at the start of a line
+			if (currentWidth == 0) {
+				while (start < content.length() && isRegexWhitespace(content.charAt(start))) {
+					start++;
+				}
 			}
+			final int length = content.length() - start;
+
+			if (currentWidth + length >= wrapWidth) {
+				final int split = start + wrapWidth - currentWidth;
+				int appendEnd = split;
+				int restStart = split;
+
+				if (wrapType == WrapType.WORD) {
+					final boolean restBlank = run.lastNonWhitespace < split;
+					final boolean breaksAtSpace = restBlank
+							? runIndex + 1 < runs.size() && runs.get(runIndex + 1).startsWithSpace()
+							: content.charAt(split) == ' ';
+					if (!breaksAtSpace) {
+						final int space = content.lastIndexOf(' ', split - 1);
+						if (space >= start) {
+							appendEnd = space;
+							restStart = space;
+						} else if (currentWidth > 0) {
+							renderedComponents.add(buildLine(currentLine));
+						}
+					}
+				}
 
-			currentComponent = ComponentUtil.copyComponent(currentComponent, false);
+				if (!isBlank(content, start, appendEnd)) {
+					appendPart(currentLine, Component.text(content.substring(start, appendEnd), run.getWrappedStyle()));
+				}
 
-			if (!(currentComponent instanceof TextComponent currentTextComponent)) {
-				currentRenderedComponent = currentRenderedComponent == null ? currentComponent : currentRenderedComponent.append(currentComponent);
+				renderedComponents.add(buildLine(currentLine));
+				currentWidth = 0;
+
+				if (run.lastNonWhitespace >= restStart) {
+					offset = restStart;
+					remainder = true;
+				} else {
+					runIndex++;
+					offset = 0;
+					remainder = false;
+				}
 				continue;
 			}
 
-			String content = currentTextComponent.content();
-			if (currentWidth == 0) {
-				content = content.replaceAll("^\\s+", "");
-				currentTextComponent = currentTextComponent.content(content);
+			final Component part;
+			if (remainder) {
+				part = Component.text(content.substring(start), run.getWrappedStyle());
+			} else if (start == 0) {
+				part = run.copy();
+			} else if (length == 0) {
+				part = ((TextComponent) ComponentUtil.copyComponent(run.component, false)).content("");
+			} else {
+				part = Component.text(content.substring(start), run.getStyle());
 			}
+			appendPart(currentLine, part);
+			currentWidth += length;
+
+			runIndex++;
+			offset = 0;
+			remainder = false;
+			if (runIndex == runs.size()) {
+				renderedComponents.add(buildLine(currentLine));
+			}
+		}
 
-			if (currentWidth + content.length() >= wrapWidth) {
-				int remaining = wrapWidth - currentWidth;
-				String append = content.substring(0, remaining);
-				String rest = content.substring(remaining);
-
-				wordWrapping: {
-					if (wrapType == WrapType.WORD) {
-						if ((rest.startsWith(" ") && !rest.isBlank())
-								|| (rest.isBlank() && !children.isEmpty() && (children.get(0) instanceof TextComponent childText) && !childText.content().isBlank() && childText.content().startsWith(" "))
-								|| (rest.isBlank() && !stack.isEmpty() && stack.peek() instanceof TextComponent nextText && !nextText.content().isBlank() && nextText.content().startsWith(" "))) {
-							break wordWrapping;
-						}
-						if (append.contains(" ")) {
-							append = append.substring(0, append.lastIndexOf(" "));
-							rest = content.substring(append.length());
-							break wordWrapping;
-						}
-						if (currentWidth > 0) {
-							renderedComponents.add(currentRenderedComponent);
-							currentRenderedComponent = null;
-						}
+		return renderedComponents;
+	}
+
+	/**
+	 * Wraps the runs after the last word that fits into the wrap width in pixels.
+	 * Every line is an empty component with the wrapped parts as children, and every
+	 * part carries the style it inherits from the original component tree.
+	 */
+	private List<Component> wrapByPixels(List<Run> runs) {
+		final int maxWidth = wrapWidth * TextMeasurer.DEFAULT_WIDTH;
+
+		final List<Component> lines = new ArrayList<>();
+		final List<Component> line = new ArrayList<>();
+		int lineWidth = 0;
+		for (Run run : runs) {
+			if (run.content == null) {
+				line.add(ComponentUtil.copyComponent(run.component, false).style(run.getInheritedStyle()));
+				continue;
+			}
+
+			final String content = run.content;
+			final boolean bold = run.getInheritedStyle().decoration(TextDecoration.BOLD) == TextDecoration.State.TRUE;
+			int start = 0;
+			while (start < content.length()) {
+				if (lineWidth == 0) {
+					while (start < content.length() && isRegexWhitespace(content.charAt(start))) {
+						start++;
+					}
+					if (start == content.length()) {
+						break;
 					}
 				}
 
-				if (!append.isBlank()) {
-					Component appendComponent = Component.text(append, currentTextComponent.color())
-							.decorations(currentTextComponent.decorations());
-					currentRenderedComponent = currentRenderedComponent == null ? appendComponent : currentRenderedComponent.append(appendComponent);
+				// Find the first character that does not fit on the line anymore
+				int end = start;
+				int width = lineWidth;
+				while (end < content.length()) {
+					final int codePoint = content.codePointAt(end);
+					final int charWidth = TextMeasurer.getWidth(codePoint, bold);
+					if (width + charWidth > maxWidth) {
+						break;
+					}
+					width += charWidth;
+					end += Character.charCount(codePoint);
 				}
 
-				if (!rest.isBlank()) {
-					stack.push(Component.text(rest, currentTextComponent.color())
-							.decorations(currentTextComponent.decorations()));
+				if (end == content.length()) {
+					line.add(Component.text(content.substring(start), run.getInheritedStyle()));
+					lineWidth = width;
+					break;
 				}
 
-				renderedComponents.add(currentRenderedComponent);
-				currentRenderedComponent = null;
-				currentWidth = 0;
-				continue;
+				final int space = content.lastIndexOf(' ', end);
+				if (space > start || (space == start && lineWidth > 0)) {
+					if (space > start) {
+						line.add(Component.text(content.substring(start, space), run.getInheritedStyle()));
+					}
+					lines.add(buildPixelLine(line));
+					lineWidth = 0;
+					start = space;
+					continue;
+				}
+
+				if (lineWidth > 0) {
+					// The word is continued on the next line
+					lines.add(buildPixelLine(line));
+					lineWidth = 0;
+					continue;
+				}
+
+				// The word is longer than a whole line, so it has to be split
+				if (end == start) {
+					end += Character.charCount(content.codePointAt(start));
+				}
+				line.add(Component.text(content.substring(start, end), run.getInheritedStyle()));
+				lines.add(buildPixelLine(line));
+				start = end;
 			}
+		}
+		if (!line.isEmpty()) {
+			lines.add(buildPixelLine(line));
+		}
+		return lines;
+	}
 
-			currentRenderedComponent = currentRenderedComponent == null ? currentTextComponent : currentRenderedComponent.append(currentTextComponent);
-			currentWidth += content.length();
+	private static Component buildPixelLine(List<Component> line) {
+		final Component component = Component.empty().children(new ArrayList<>(line));
+		line.clear();
+		return component;
+	}
 
-			if (stack.isEmpty()) {
-				renderedComponents.add(currentRenderedComponent);
+	/**
+	 * Flattens the component tree into a list of runs in the order they are displayed.
+	 */
+	private static List<Run> flatten(Component component) {
+		final List<Run> runs = new ArrayList<>();
+		final ArrayDeque<Run> pending = new ArrayDeque<>();
+		pending.push(new Run(component, null));
+		while (!pending.isEmpty()) {
+			final Run current = pending.pop();
+			final List<Component> children = current.component.children();
+			for (int i = children.size() - 1; i >= 0; i--) {
+				pending.push(new Run(children.get(i), current));
 			}
+			runs.add(current);
+		}
+		return runs;
+	}
+
+	/**
+	 * Appends a part to the line the same way {@link Component#append(Component)} would.
+	 */
+	private static void appendPart(List<Component> line, Component part) {
+		if (!line.isEmpty() && part == Component.empty()) {
+			return;
+		}
+		line.add(part);
+	}
+
+	private static Component buildLine(List<Component> line) {
+		if (line.isEmpty()) {
+			return null;
+		}
+		Component component = line.get(0);
+		if (line.size() > 1) {
+			component = component.children(new ArrayList<>(line.subList(1, line.size())));
+		}
+		line.clear();
+		return component;
+	}
+
+	private static boolean isBlank(String content, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (!Character.isWhitespace(content.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether the character is matched by {@code \\s} in a regular expression.
+	 */
+	private static boolean isRegexWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+
+	/**
+	 * A single component of the flattened content.
+	 * The content is null if the component is not a text component.
+	 */
+	private static final class Run {
+
+		private final Component component;
+		private final Run parent;
+		private final String content;
+		private final int lastNonWhitespace;
+
+		private Style style;
+		private Style wrappedStyle;
+		private Style inheritedStyle;
+
+		private Run(Component component, Run parent) {
+			this.component = component;
+			this.parent = parent;
+			if (component instanceof TextComponent textComponent) {
+				this.content = textComponent.content();
+				int last = content.length() - 1;
+				while (last >= 0 && Character.isWhitespace(content.charAt(last))) {
+					last--;
+				}
+				this.lastNonWhitespace = last;
+			} else {
+				this.content = null;
+				this.lastNonWhitespace = -1;
+			}
+		}
+
+		private boolean startsWithSpace() {
+			return content != null && lastNonWhitespace >= 0 && content.startsWith(" ");
+		}
+
+		/**
+		 * Returns the component without children, like {@link ComponentUtil#copyComponent(Component, boolean)}.
+		 */
+		private Component copy() {
+			if (content.isEmpty()) {
+				// Empty copies must stay distinct from Component.empty(), which is skipped when appended
+				return ComponentUtil.copyComponent(component, false);
+			}
+			return Component.text(content, getStyle());
+		}
+
+		private Style getStyle() {
+			if (style == null) {
+				style = Style.style()
+						.color(component.color())
+						.decorations(component.decorations())
+						.hoverEvent(component.hoverEvent())
+						.clickEvent(component.clickEvent())
+						.build();
+			}
+			return style;
+		}
+
+		/**
+		 * Returns the style of text that was split off by wrapping, which only keeps color and decorations.
+		 */
+		private Style getWrappedStyle() {
+			if (wrappedStyle == null) {
+				wrappedStyle = Style.style()
+						.color(component.color())
+						.decorations(component.decorations())
+						.build();
+			}
+			return wrappedStyle;
+		}
+
+		/**
+		 * Returns the style of the component merged with the styles it inherits from its parents.
+		 */
+		private Style getInheritedStyle() {
+			if (inheritedStyle == null) {
+				inheritedStyle = parent == null
+						? component.style()
+						: component.style().merge(parent.getInheritedStyle(), Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+			}
+			return inheritedStyle;
 		}
 
-		return renderedComponents;
 	}
 
 }
@@ -29,6 +29,21 @@ public enum WrapType {
 	 *
 	 * @since 2.0.0
 	 */
-	WORD
+	WORD,
+
+	/**
+	 * Wrapping should be applied after the last word that fits, measuring the
+	 * text in pixels of the default font instead of counting characters.
+	 * The wrap width is converted to pixels using the {@link TextMeasurer#DEFAULT_WIDTH width of an average character}.
+	 * <p>
+	 * Glyph widths are known for ASCII, Latin-1, Latin Extended-A and common punctuation.
+	 * CJK and fullwidth characters are measured as {@link TextMeasurer#WIDE_WIDTH wide}, and all
+	 * other characters fall back to the {@link TextMeasurer#DEFAULT_WIDTH default width}, so lines
+	 * in other scripts or in custom resource pack fonts may end up slightly shorter or longer.
+	 *
+	 * @see TextMeasurer
+	 * @since 2.2.0
+	 */
+	PIXEL
 
 }
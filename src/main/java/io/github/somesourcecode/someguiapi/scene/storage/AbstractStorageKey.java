@@ -0,0 +1,78 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.scene.storage;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The common supertype of all keys for values in a {@link Storage}.
+ * <p>
+ * Every key is assigned a dense slot index when it is created, so a storage can look up
+ * the value of a key by array index instead of hashing a string id. Keys for objects are
+ * {@link StorageKey}s, while keys for int, long, double and boolean values have their own
+ * types, such as {@link StorageKey.OfInt}, whose holders store the value without boxing.
+ * Code that only needs the slot of a key, for example to check its version, accepts any key.
+ *
+ * @since 2.2.0
+ */
+public abstract sealed class AbstractStorageKey
+		permits StorageKey, StorageKey.OfInt, StorageKey.OfLong, StorageKey.OfDouble, StorageKey.OfBoolean {
+
+	private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+	private final String name;
+	final int index;
+
+	AbstractStorageKey(String name) {
+		if (name == null) {
+			throw new IllegalArgumentException("Name cannot be null");
+		}
+		this.name = name;
+		this.index = NEXT_INDEX.getAndIncrement();
+	}
+
+	/**
+	 * Returns the name of this key.
+	 *
+	 * @return the name
+	 * @since 2.2.0
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the name of the type of the value, used for debugging.
+	 */
+	abstract String getTypeName();
+
+	@Override
+	public String toString() {
+		return "StorageKey[" +
+				"name=" + name +
+				", type=" + getTypeName() +
+				']';
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.scene.storage;
+
+/**
+ * A holder for an int value, which is stored without boxing.
+ * Holders are obtained from a {@link Storage} with a {@link StorageKey.OfInt}.
+ *
+ * @see Storage#get(StorageKey.OfInt)
+ * @since 2.2.0
+ */
+public final class IntValueHolder implements VersionedHolder {
+
+	private int value;
+	private long version = ValueHolder.nextVersion();
+
+	IntValueHolder(int value) {
+		this.value = value;
+	}
+
+	/**
+	 * Returns the value of this holder.
+	 *
+	 * @return the value
+	 * @since 2.2.0
+	 */
+	public int get() {
+		return value;
+	}
+
+	/**
+	 * Sets the value of this holder.
+	 *
+	 * @param value the value to set
+	 * @since 2.2.0
+	 */
+	public void set(int value) {
+		this.value = value;
+		version = ValueHolder.nextVersion();
+	}
+
+	/**
+	 * Increments the value of this holder by 1.
+	 *
+	 * @return this holder for method chaining
+	 * @see #increment(int)
+	 * @since 2.2.0
+	 */
+	public IntValueHolder increment() {
+		return increment(1);
+	}
+
+	/**
+	 * Increments the value of this holder by the specified amount.
+	 *
+	 * @param amount the amount to increment by
+	 * @return this holder for method chaining
+	 * @since 2.2.0
+	 */
+	public IntValueHolder increment(int amount) {
+		set(value + amount);
+		return this;
+	}
+
+	/**
+	 * Decrements the value of this holder by 1.
+	 *
+	 * @return this holder for method chaining
+	 * @see #decrement(int)
+	 * @since 2.2.0
+	 */
+	public IntValueHolder decrement() {
+		return decrement(1);
+	}
+
+	/**
+	 * Decrements the value of this holder by the specified amount.
+	 *
+	 * @param amount the amount to decrement by
+	 * @return this holder for method chaining
+	 * @since 2.2.0
+	 */
+	public IntValueHolder decrement(int amount) {
+		set(value - amount);
+		return this;
+	}
+
+	/**
+	 * Returns the version of this holder. The version changes whenever the value is set.
+	 *
+	 * @return the version of this holder
+	 * @see ValueHolder#getVersion()
+	 * @since 2.2.0
+	 */
+	@Override
+	public long getVersion() {
+		return version;
+	}
+
+	@Override
+	public String toString() {
+		return "IntValueHolder[value=" + value + ']';
+	}
+
+}
@@ -23,6 +23,7 @@
 
 package io.github.somesourcecode.someguiapi.scene.storage;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -30,12 +31,17 @@ import java.util.function.Consumer;
 
 /**
  * A storage for values that can be registered and accessed by id.
+ * <p>
+ * Values can also be accessed with a {@link StorageKey}. Keys resolve to a slot in an array,
+ * so they avoid the hashing of ids, and the values of int, long, double and boolean keys
+ * are held without boxing. Values of keys are independent of the values registered with ids.
  *
  * @since 2.1.0
  */
 public class Storage {
 
 	private final HashMap<String, ValueHolder<?>> idToHolder = new HashMap<>();
+	private VersionedHolder[] keyHolders = new VersionedHolder[0];
 
 	/**
 	 * Registers a new holder with the specified id, type, and default value.
@@ -97,6 +103,7 @@ public class Storage {
 	 */
 	public void unregisterAll() {
 		idToHolder.clear();
+		Arrays.fill(keyHolders, null);
 	}
 
 	/**
@@ -145,6 +152,20 @@ public class Storage {
 		return isRegistered(id) ? idToHolder.get(id) : new ValueHolder<>(Object.class, null, false);
 	}
 
+	/**
+	 * Returns the version of the value registered with the specified id.
+	 * The version changes whenever the value is set or the id is registered again.
+	 *
+	 * @param id the id of the value
+	 * @return the version of the value, or 0 if no value is registered with the id
+	 * @see ValueHolder#getVersion()
+	 * @since 2.2.0
+	 */
+	public long getVersion(String id) {
+		final ValueHolder<?> holder = idToHolder.get(id);
+		return holder == null ? 0 : holder.getVersion();
+	}
+
 	/**
 	 * Executes the consumer if a holder with the specified
 	 * id is registered. Does nothing otherwise.
@@ -160,4 +181,141 @@ public class Storage {
 		consumer.accept(get(id));
 	}
 
+	/**
+	 * Returns the value holder for the specified key. If the key has no value
+	 * in this storage yet, a holder with the default value of the key is created.
+	 *
+	 * @param key the key
+	 * @param <T> the type of the value
+	 * @return the value holder
+	 * @since 2.2.0
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> ValueHolder<T> get(StorageKey<T> key) {
+		ValueHolder<T> holder = (ValueHolder<T>) getKeyHolder(key);
+		if (holder == null) {
+			holder = new ValueHolder<>(key.getType(), key.getDefaultValue(), true);
+			setKeyHolder(key, holder);
+		}
+		return holder;
+	}
+
+	/**
+	 * Returns the int value holder for the specified key. If the key has no value
+	 * in this storage yet, a holder with the default value of the key is created.
+	 *
+	 * @param key the key
+	 * @return the value holder
+	 * @since 2.2.0
+	 */
+	public IntValueHolder get(StorageKey.OfInt key) {
+		IntValueHolder holder = (IntValueHolder) getKeyHolder(key);
+		if (holder == null) {
+			holder = new IntValueHolder(key.getDefaultValue());
+			setKeyHolder(key, holder);
+		}
+		return holder;
+	}
+
+	/**
+	 * Returns the long value holder for the specified key. If the key has no value
+	 * in this storage yet, a holder with the default value of the key is created.
+	 *
+	 * @param key the key
+	 * @return the value holder
+	 * @since 2.2.0
+	 */
+	public LongValueHolder get(StorageKey.OfLong key) {
+		LongValueHolder holder = (LongValueHolder) getKeyHolder(key);
+		if (holder == null) {
+			holder = new LongValueHolder(key.getDefaultValue());
+			setKeyHolder(key, holder);
+		}
+		return holder;
+	}
+
+	/**
+	 * Returns the double value holder for the specified key. If the key has no value
+	 * in this storage yet, a holder with the default value of the key is created.
+	 *
+	 * @param key the key
+	 * @return the value holder
+	 * @since 2.2.0
+	 */
+	public DoubleValueHolder get(StorageKey.OfDouble key) {
+		DoubleValueHolder holder = (DoubleValueHolder) getKeyHolder(key);
+		if (holder == null) {
+			holder = new DoubleValueHolder(key.getDefaultValue());
+			setKeyHolder(key, holder);
+		}
+		return holder;
+	}
+
+	/**
+	 * Returns the boolean value holder for the specified key. If the key has no value
+	 * in this storage yet, a holder with the default value of the key is created.
+	 *
+	 * @param key the key
+	 * @return the value holder
+	 * @since 2.2.0
+	 */
+	public BooleanValueHolder get(StorageKey.OfBoolean key) {
+		BooleanValueHolder holder = (BooleanValueHolder) getKeyHolder(key);
+		if (holder == null) {
+			holder = new BooleanValueHolder(key.getDefaultValue());
+			setKeyHolder(key, holder);
+		}
+		return holder;
+	}
+
+	/**
+	 * Returns whether the specified key has a value in this storage.
+	 *
+	 * @param key the key
+	 * @return whether the key has a value
+	 * @since 2.2.0
+	 */
+	public boolean contains(AbstractStorageKey key) {
+		return getKeyHolder(key) != null;
+	}
+
+	/**
+	 * Removes the value of the specified key. The next access
+	 * starts again with the default value of the key.
+	 *
+	 * @param key the key
+	 * @since 2.2.0
+	 */
+	public void remove(AbstractStorageKey key) {
+		if (key.index < keyHolders.length) {
+			keyHolders[key.index] = null;
+		}
+	}
+
+	/**
+	 * Returns the version of the value of the specified key.
+	 * The version changes whenever the value is set or removed.
+	 *
+	 * @param key the key
+	 * @return the version of the value, or 0 if the key has no value
+	 * @since 2.2.0
+	 */
+	public long getVersion(AbstractStorageKey key) {
+		final VersionedHolder holder = getKeyHolder(key);
+		return holder == null ? 0 : holder.getVersion();
+	}
+
+	private VersionedHolder getKeyHolder(AbstractStorageKey key) {
+		final int index = key.index;
+		return index < keyHolders.length ? keyHolders[index] : null;
+	}
+
+	private void setKeyHolder(AbstractStorageKey key, VersionedHolder holder) {
+		final int index = key.index;
+		if (index >= keyHolders.length) {
+			keyHolders = Arrays.copyOf(keyHolders, Math.max(index + 1, keyHolders.length * 2));
+		}
+		keyHolders[index] = holder;
+	}
+
 }
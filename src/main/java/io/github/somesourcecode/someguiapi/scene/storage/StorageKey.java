@@ -0,0 +1,293 @@
+/*
+ * Copyright 2024, SomeSourceCode - MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.somesourcecode.someguiapi.scene.storage;
+
+/**
+ * A typed key for a value in a {@link Storage}.
+ * <p>
+ * Keys are meant to be created once and stored in constants:
+ * <pre>{@code
+ * private static final StorageKey.OfInt CLICKS = StorageKey.ofInt("clicks", 0);
+ *
+ * button.setOnClick(context -> storage.get(CLICKS).increment());
+ * }</pre>
+ * The keys for int, long, double and boolean values return holders that store the primitive
+ * value, so reading and updating them does not box the value. They are not {@code StorageKey}s,
+ * since their holders are no {@link ValueHolder}s, but all keys share the supertype {@link AbstractStorageKey}.
+ *
+ * @param <T> the type of the value
+ * @since 2.2.0
+ */
+public final class StorageKey<T> extends AbstractStorageKey {
+
+	private final Class<T> type;
+	private final T defaultValue;
+
+	private StorageKey(String name, Class<T> type, T defaultValue) {
+		super(name);
+		if (type == null) {
+			throw new IllegalArgumentException("Type cannot be null");
+		}
+		if (type.isPrimitive()) {
+			throw new IllegalArgumentException("Type cannot be a primitive");
+		}
+		if (defaultValue != null && !type.isInstance(defaultValue)) {
+			throw new IllegalArgumentException("Expected " + type.getName() + " but provided " + defaultValue.getClass().getName());
+		}
+		this.type = type;
+		this.defaultValue = defaultValue;
+	}
+
+	/**
+	 * Creates a key for a value of the specified type.
+	 *
+	 * @param name the name of the key, used for debugging
+	 * @param type the type of the value
+	 * @param defaultValue the value a storage starts with, may be null
+	 * @return the key
+	 * @param <T> the type of the value
+	 * @throws IllegalArgumentException if the name or type is null, the type is a primitive
+	 *                                  or the default value is not of the type
+	 * @since 2.2.0
+	 */
+	public static <T> StorageKey<T> of(String name, Class<T> type, T defaultValue) {
+		return new StorageKey<>(name, type, defaultValue);
+	}
+
+	/**
+	 * Creates a key for a value of the specified type, which starts as null.
+	 *
+	 * @param name the name of the key, used for debugging
+	 * @param type the type of the value
+	 * @return the key
+	 * @param <T> the type of the value
+	 * @throws IllegalArgumentException if the name or type is null or the type is a primitive
+	 * @since 2.2.0
+	 */
+	public static <T> StorageKey<T> of(String name, Class<T> type) {
+		return new StorageKey<>(name, type, null);
+	}
+
+	/**
+	 * Creates a key for an int value.
+	 *
+	 * @param name the name of the key, used for debugging
+	 * @param defaultValue the value a storage starts with
+	 * @return the key
+	 * @throws IllegalArgumentException if the name is null
+	 * @since 2.2.0
+	 */
+	public static OfInt ofInt(String name, int defaultValue) {
+		return new OfInt(name, defaultValue);
+	}
+
+	/**
+	 * Creates a key for a long value.
+	 *
+	 * @param name the name of the key, used for debugging
+	 * @param defaultValue the value a storage starts with
+	 * @return the key
+	 * @throws IllegalArgumentException if the name is null
+	 * @since 2.2.0
+	 */
+	public static OfLong ofLong(String name, long defaultValue) {
+		return new OfLong(name, defaultValue);
+	}
+
+	/**
+	 * Creates a key for a double value.
+	 *
+	 * @param name the name of the key, used for debugging
+	 * @param defaultValue the value a storage starts with
+	 * @return the key
+	 * @throws IllegalArgumentException if the name is null
+	 * @since 2.2.0
+	 */
+	public static OfDouble ofDouble(String name, double defaultValue) {
+		return new OfDouble(name, defaultValue);
+	}
+
+	/**
+	 * Creates a key for a boolean value.
+	 *
+	 * @param name the name of the key, used for debugging
+	 * @param defaultValue the value a storage starts with
+	 * @return the key
+	 * @throws IllegalArgumentException if the name is null
+	 * @since 2.2.0
+	 */
+	public static OfBoolean ofBoolean(String name, boolean defaultValue) {
+		return new OfBoolean(name, defaultValue);
+	}
+
+	/**
+	 * Returns the type of the value.
+	 *
+	 * @return the type
+	 * @since 2.2.0
+	 */
+	public Class<T> getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the value a storage starts with.
+	 *
+	 * @return the default value
+	 * @since 2.2.0
+	 */
+	public T getDefaultValue() {
+		return defaultValue;
+	}
+
+	@Override
+	String getTypeName() {
+		return type.getSimpleName();
+	}
+
+	/**
+	 * A key for an int value, which is held by an {@link IntValueHolder}.
+	 *
+	 * @since 2.2.0
+	 */
+	public static final class OfInt extends AbstractStorageKey {
+
+		private final int defaultValue;
+
+		private OfInt(String name, int defaultValue) {
+			super(name);
+			this.defaultValue = defaultValue;
+		}
+
+		/**
+		 * Returns the value a storage starts with.
+		 *
+		 * @return the default value
+		 * @since 2.2.0
+		 */
+		public int getDefaultValue() {
+			return defaultValue;
+		}
+
+		@Override
+		String getTypeName() {
+			return "int";
+		}
+
+	}
+
+	/**
+	 * A key for a long value, which is held by a {@link LongValueHolder}.
+	 *
+	 * @since 2.2.0
+	 */
+	public static final class OfLong extends AbstractStorageKey {
+
+		private final long defaultValue;
+
+		private OfLong(String name, long defaultValue) {
+			super(name);
+			this.defaultValue = defaultValue;
+		}
+
+		/**
+		 * Returns the value a storage starts with.
+		 *
+		 * @return the default value
+		 * @since 2.2.0
+		 */
+		public long getDefaultValue() {
+			return defaultValue;
+		}
+
+		@Override
+		String getTypeName() {
+			return "long";
+		}
+
+	}
+
+	/**
+	 * A key for a double value, which is held by a {@link DoubleValueHolder}.
+	 *
+	 * @since 2.2.0
+	 */
+	public static final class OfDouble extends AbstractStorageKey {
+
+		private final double defaultValue;
+
+		private OfDouble(String name, double defaultValue) {
+			super(name);
+			this.defaultValue = defaultValue;
+		}
+
+		/**
+		 * Returns the value a storage starts with.
+		 *
+		 * @return the default value
+		 * @since 2.2.0
+		 */
+		public double getDefaultValue() {
+			return defaultValue;
+		}
+
+		@Override
+		String getTypeName() {
+			return "double";
+		}
+
+	}
+
+	/**
+	 * A key for a boolean value, which is held by a {@link BooleanValueHolder}.
+	 *
+	 * @since 2.2.0
+	 */
+	public static final class OfBoolean extends AbstractStorageKey {
+
+		private final boolean defaultValue;
+
+		private OfBoolean(String name, boolean defaultValue) {
+			super(name);
+			this.defaultValue = defaultValue;
+		}
+
+		/**
+		 * Returns the value a storage starts with.
+		 *
+		 * @return the default value
+		 * @since 2.2.0
+		 */
+		public boolean getDefaultValue() {
+			return defaultValue;
+		}
+
+		@Override
+		String getTypeName() {
+			return "boolean";
+		}
+
+	}
+
+}
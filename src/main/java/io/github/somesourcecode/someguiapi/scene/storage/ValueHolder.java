@@ -23,6 +23,7 @@
 
 package io.github.somesourcecode.someguiapi.scene.storage;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -32,11 +33,14 @@ import java.util.function.Function;
  * @param <T> the type of the value
  * @since 2.1.0
  */
-public final class ValueHolder<T> {
+public final class ValueHolder<T> implements VersionedHolder {
+
+	private static final AtomicLong NEXT_VERSION = new AtomicLong();
 
 	private final Class<T> type;
 	private T value;
 	private final boolean registered;
+	private long version = nextVersion();
 
 	/**
 	 * Constructs a new ValueHolder with the specified type.
@@ -339,6 +343,7 @@ public final class ValueHolder<T> {
 			throw new IllegalArgumentException("Expected " + type.getName() + " but provided " + value.getClass().getName());
 		}
 		this.value = value;
+		version = nextVersion();
 	}
 
 	/**
@@ -706,6 +711,7 @@ public final class ValueHolder<T> {
 		}
 		int intValue = (int) value;
 		value = (T) (Integer) (intValue + amount);
+		version = nextVersion();
 		return this;
 	}
 
@@ -735,6 +741,7 @@ public final class ValueHolder<T> {
 			throw new UnsupportedOperationException("Cannot decrement type " + type.getName());
 		}
 		value = (T) (Integer) ((int) value - amount);
+		version = nextVersion();
 		return this;
 	}
 
@@ -751,6 +758,7 @@ public final class ValueHolder<T> {
 			throw new UnsupportedOperationException("Cannot invert type " + type.getName());
 		}
 		value = (T) (Boolean) !(boolean) value;
+		version = nextVersion();
 		return this;
 	}
 
@@ -761,6 +769,26 @@ public final class ValueHolder<T> {
 	 */
 	public void clear() {
 		value = null;
+		version = nextVersion();
+	}
+
+	/**
+	 * Returns the version of this holder. The version changes whenever the value is set,
+	 * and no two holders share a version, so it can be used to detect changes cheaply.
+	 *
+	 * @return the version of this holder
+	 * @since 2.2.0
+	 */
+	@Override
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * Returns a new version, which is shared with the primitive value holders.
+	 */
+	static long nextVersion() {
+		return NEXT_VERSION.incrementAndGet();
 	}
 
 	@Override
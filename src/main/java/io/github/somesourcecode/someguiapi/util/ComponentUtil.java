@@ -1,6 +1,12 @@
 package io.github.somesourcecode.someguiapi.util;
 
 import net.kyori.adventure.text.*;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Utility class for components.
@@ -70,4 +76,93 @@ public class ComponentUtil {
 		return copy;
 	}
 
+	/**
+	 * Compacts a component without changing how it is displayed.
+	 * <p>
+	 * Adjacent text children with the same style are merged, empty children are removed and
+	 * styles that are already inherited from the parent are dropped (see {@link Component#compact()}).
+	 * Additionally, a color or decoration that all children of an empty text component share
+	 * is moved to that component, so it is only serialized once.
+	 *
+	 * @param component the component to compact
+	 * @return the compacted component
+	 * @since 2.2.0
+	 */
+	public static Component compact(Component component) {
+		if (component == null) {
+			return null;
+		}
+		final Component compacted = component.compact();
+		final Component hoisted = hoistStyle(compacted);
+		return hoisted == compacted ? compacted : hoisted.compact();
+	}
+
+	/**
+	 * Returns the approximate size of a component on the wire, which is
+	 * the number of UTF-8 bytes of its JSON representation.
+	 *
+	 * @param component the component
+	 * @return the serialized size in bytes, or 0 if the component is null
+	 * @since 2.2.0
+	 */
+	public static int getSerializedSize(Component component) {
+		if (component == null) {
+			return 0;
+		}
+		final String json = GsonComponentSerializer.gson().serialize(component);
+		int size = json.length();
+		for (int i = 0; i < json.length(); i++) {
+			final char c = json.charAt(i);
+			if (c >= 0x80) {
+				size += c < 0x800 || Character.isSurrogate(c) ? 1 : 2;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Moves the color and decorations that all children share to the
+	 * parent, if the parent is an empty text component that does not set them.
+	 */
+	private static Component hoistStyle(Component component) {
+		final List<Component> children = component.children();
+		if (children.size() < 2 || !(component instanceof TextComponent textComponent) || !textComponent.content().isEmpty()) {
+			return component;
+		}
+
+		final Component first = children.get(0);
+		TextColor color = component.color() == null ? first.color() : null;
+		final List<TextDecoration> decorations = new ArrayList<>();
+		for (TextDecoration decoration : TextDecoration.values()) {
+			if (component.decoration(decoration) == TextDecoration.State.NOT_SET && first.decoration(decoration) != TextDecoration.State.NOT_SET) {
+				decorations.add(decoration);
+			}
+		}
+		for (int i = 1; i < children.size(); i++) {
+			final Component child = children.get(i);
+			if (color != null && !color.equals(child.color())) {
+				color = null;
+			}
+			decorations.removeIf(decoration -> child.decoration(decoration) != first.decoration(decoration));
+		}
+		if (color == null && decorations.isEmpty()) {
+			return component;
+		}
+
+		final List<Component> hoistedChildren = new ArrayList<>(children.size());
+		for (Component child : children) {
+			Component hoistedChild = color == null ? child : child.color(null);
+			for (TextDecoration decoration : decorations) {
+				hoistedChild = hoistedChild.decoration(decoration, TextDecoration.State.NOT_SET);
+			}
+			hoistedChildren.add(hoistedChild);
+		}
+
+		Component hoisted = color == null ? component : component.color(color);
+		for (TextDecoration decoration : decorations) {
+			hoisted = hoisted.decoration(decoration, first.decoration(decoration));
+		}
+		return hoisted.children(hoistedChildren);
+	}
+
 }